@@ -114,13 +114,14 @@ export const NAME_TRANSLATION = {
         ],
         classes: {
             Browser: {
+                async: true,
                 appendMethods: [
                     '    public Object value(String selector) {',
                     '        return this.callFunc("value", new Object[]{selector});',
                     '    }',
                     '',
                     '    public Browser value(String selector, Object value) {',
-                    '        return (Browser) this.callFunc("value", new Object[]{selector, value});',
+                    '        return (Browser) this.callFunc("value", new Object[]{selector, value}, Browser.class);',
                     '    }',
                     '',
                     '    public Browser keys(String selector, String keys) {',
@@ -142,6 +143,67 @@ export const NAME_TRANSLATION = {
                     '   public Object[] evaluate(String[] pageFunction, Object[] args) {',
                     '       return (Object[]) this.callFunc("evaluate", new Object[]{pageFunction, args});',
                     '   }',
+                    '',
+                    '    public Browser batch(java.util.function.Consumer<Browser> calls) {',
+                    '        return this.batch(new Browser(this.id, this.type, this.represents, this.parent, this.context), calls);',
+                    '    }',
+                    '',
+                    '    public AsyncBrowser async() {',
+                    '        return new AsyncBrowser(this.id, this.type, this.represents, this, this.context);',
+                    '    }',
+                    '',
+                    '    public long screenshot(java.nio.file.Path target) {',
+                    '        return this.screenshot(target, Map.of());',
+                    '    }',
+                    '',
+                    '    public long screenshot(java.nio.file.Path target, Object options) {',
+                    '        return this.callFuncTo("screenshot", new Object[]{options}, target);',
+                    '    }',
+                    '',
+                    '    public long screenshot(java.nio.channels.WritableByteChannel target) {',
+                    '        return this.screenshot(target, Map.of());',
+                    '    }',
+                    '',
+                    '    public long screenshot(java.nio.channels.WritableByteChannel target, Object options) {',
+                    '        return this.callFuncTo("screenshot", new Object[]{options}, target);',
+                    '    }',
+                    '',
+                    '    public java.nio.ByteBuffer screenshotBuffer() {',
+                    '        return this.screenshotBuffer(Map.of());',
+                    '    }',
+                    '',
+                    '    public java.nio.ByteBuffer screenshotBuffer(Object options) {',
+                    '        return this.callFuncBuffer("screenshot", new Object[]{options});',
+                    '    }',
+                ],
+                asyncAppendMethods: [
+                    '    public CompletableFuture<Object> value(String selector) {',
+                    '        return this.callFuncAsync("value", new Object[]{selector});',
+                    '    }',
+                    '',
+                    '    public CompletableFuture<Browser> value(String selector, Object value) {',
+                    '        return this.callFuncAsync("value", new Object[]{selector, value}).thenApply(r -> (Browser) r);',
+                    '    }',
+                    '',
+                    '    public CompletableFuture<Browser> keys(String selector, String keys) {',
+                    '        return this.keys(selector, new String[]{keys});',
+                    '    }',
+                    '',
+                    '    public CompletableFuture<Object> evaluate(String pageFunction) {',
+                    '        return this.evaluate(pageFunction, new Object[]{});',
+                    '    }',
+                    '',
+                    '    public CompletableFuture<Object> evaluate(String pageFunction, Object[] args) {',
+                    '        return this.callFuncAsync("evaluate", new Object[]{pageFunction, args});',
+                    '    }',
+                    '',
+                    '    public CompletableFuture<Object[]> evaluate(String[] pageFunction) {',
+                    '        return this.evaluate(pageFunction, new Object[]{});',
+                    '    }',
+                    '',
+                    '    public CompletableFuture<Object[]> evaluate(String[] pageFunction, Object[] args) {',
+                    '        return this.callFuncAsync("evaluate", new Object[]{pageFunction, args}).thenApply(r -> (Object[]) r);',
+                    '    }',
                 ],
             },
         },
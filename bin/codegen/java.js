@@ -7,8 +7,18 @@ const OUT_BASE = path.join(import.meta.dirname, '../../workspaces/clients/java/c
 const NS_INTERNAL = 'io.puth.client.remote';
 const NS_EXTERNAL = 'io.puth.client.remote.external';
 
+const BOXED = {
+    void: 'Void',
+    boolean: 'Boolean',
+    int: 'Integer',
+    float: 'Float',
+};
+
 export function generate() {
     classes.forEach(cls => generateClass(cls));
+    classes
+        .filter(cls => NAME_TRANSLATION.java?.classes?.[cls.name]?.async)
+        .forEach(cls => generateAsyncClass(cls));
 }
 
 export function generateClass(cls) {
@@ -64,7 +74,49 @@ export function generateClass(cls) {
     console.log(path.join(dir, `${cls.name}.java`));
 }
 
-function generateMethod(className, method, optionalIdx = null) {
+/**
+ * Generates Async{Class} next to the class: the same methods returning CompletableFuture, backed by callFuncAsync.
+ */
+export function generateAsyncClass(cls) {
+    const ns = cls.isExternal ? NS_EXTERNAL : NS_INTERNAL;
+    const name = `Async${cls.name}`;
+    const methodsArray = cls.methods instanceof Map ? Array.from(cls.methods.values()) : cls.methods;
+    
+    const content = [
+        `package ${ns};`,
+        '',
+        'import io.puth.client.RemoteObject;',
+        'import java.util.Map;',
+        'import java.util.concurrent.CompletableFuture;',
+        '',
+        '/**',
+        `* Non-blocking variant of {@link ${cls.name}}, created with {@link ${cls.name}#async()}. Calls that return the`,
+        `* remote object itself complete with the blocking {@link ${cls.name}}.`,
+        '*/',
+        `public class ${name} extends RemoteObject {`,
+        `    public ${name}(String id, String type, String represents, RemoteObject parent, io.puth.client.Context context) {`,
+        '        super(id, type, represents, parent, context);',
+        '    }',
+        '',
+        '    @Override',
+        '    protected RemoteObject self() {',
+        '        return parent;',
+        '    }',
+        '',
+        methodsArray.map(m => generateMethod(cls.name, m, null, true)).filter(i => !!i).join('\n\n'),
+        '',
+        ...NAME_TRANSLATION.java?.classes?.[cls.name]?.asyncAppendMethods ?? [],
+        '}',
+        '',
+    ].join('\n');
+    
+    const dir = path.join(OUT_BASE, cls.isExternal ? 'External' : '');
+    fs.mkdirSync(dir, {recursive: true});
+    fs.writeFileSync(path.join(dir, `${name}.java`), content, 'utf8');
+    console.log(path.join(dir, `${name}.java`));
+}
+
+function generateMethod(className, method, optionalIdx = null, async = false) {
     let {name, isAsync, parameters, returns, comments} = method;
     if (NAME_TRANSLATION.java?.ignore?.includes(name)) {
         return null;
@@ -73,7 +125,7 @@ function generateMethod(className, method, optionalIdx = null) {
     let extra = null;
     if (optionalIdx == null) {
         console.log(parameters);
-        let extraTemp = parameters.map((v, i) => generateMethod(className, method, i)).filter(i => !!i);
+        let extraTemp = parameters.map((v, i) => generateMethod(className, method, i, async)).filter(i => !!i);
         if (extraTemp.length !== 0) {
             extra = extraTemp.join('\n\n') + '\n';
         }
@@ -106,7 +158,15 @@ function generateMethod(className, method, optionalIdx = null) {
     
     const params = parameters.map(p => `${mapType(p.type, className)} ${p.name}`).join(', ');
     let argArray = `, new Object[]{${parameters.map(p => `${p.name}`).join(', ')}}`;
-    let callLine = `${rtn === 'void' ? '' : `return (${rtn}) `}this.callFunc("${name}"${argArray});`;
+    // fluent calls pass their type, so they can be batched. Methods returning another instance of the class (clone,
+    // withinIframe) are not fluent
+    let fluent = returns.length === 1 && returns[0] === 'this' ? `, ${className}.class` : '';
+    let callLine = `${rtn === 'void' ? '' : `return (${rtn}) `}this.callFunc("${name}"${argArray}${fluent});`;
+    let boxed = BOXED[rtn] ?? rtn;
+    if (async) {
+        let cast = rtn === 'Object' ? '' : (rtn === 'void' ? '.thenApply(r -> null)' : `.thenApply(r -> (${boxed}) r)`);
+        callLine = `return this.callFuncAsync("${name}"${argArray})${cast};`;
+    }
     
     let nameTranslated = NAME_TRANSLATION?.java?.default?.[className]?.[name] ?? name;
     
@@ -115,7 +175,7 @@ function generateMethod(className, method, optionalIdx = null) {
     if (optionalIdx != null) {
         let args = parameters.map(p => `${p.name}`);
         rest.forEach(p => args.push(typeInitializer(p, className)));
-        callLine = `${rtn === 'void' ? '' : `return `}this.${nameTranslated}(${args.join(', ')});`;
+        callLine = `${rtn === 'void' && !async ? '' : `return `}this.${nameTranslated}(${args.join(', ')});`;
     } else {
         console.log(nameTranslated, parameters);
     }
@@ -129,7 +189,7 @@ function generateMethod(className, method, optionalIdx = null) {
         //'    /**',
         //comments.map(c => `     * ${c}`).join('\n'),
         //'     */',
-        `    public ${rtn} ${nameTranslated}(${params}) {`,
+        `    public ${async ? `CompletableFuture<${boxed}>` : rtn} ${nameTranslated}(${params}) {`,
         `        ${callLine}`,
         '    }',
     ].filter(i => !!i).join('\n');
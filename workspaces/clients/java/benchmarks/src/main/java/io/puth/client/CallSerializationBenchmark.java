@@ -0,0 +1,52 @@
+package io.puth.client;
+
+import io.puth.client.remote.Browser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing call envelopes, alone and as a full {@code callFunc} round trip against a canned
+ * {@code GenericSelf} response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallSerializationBenchmark {
+    private static final Map<String, Object> OPTIONS = Map.of("delay", 0, "button", "left", "clickCount", 1);
+
+    private Context context;
+    private Browser browser;
+    private RemoteObject element;
+
+    @Setup
+    public void setup() {
+        context = new CannedTransport(CannedTransport.SELF).context();
+        browser = new Browser("b1", "GenericObject", "Browser", context, context);
+        element = new RemoteObject("e1", "GenericObject", "ElementHandle", browser, context);
+    }
+
+    @Benchmark
+    public byte[] envelope() throws Exception {
+        return Packets.writer.writeValueAsBytes(new Packets.Call(context.serializedFragment(), "GenericObject", "b1", "click", new Object[]{"#submit", OPTIONS}));
+    }
+
+    @Benchmark
+    public Object call() {
+        return browser.click("#submit");
+    }
+
+    @Benchmark
+    public Object callWithOptions() {
+        return browser.click("#submit", OPTIONS);
+    }
+
+    @Benchmark
+    public Object callWithRemoteObject() {
+        return browser.callFunc("click", new Object[]{element, OPTIONS});
+    }
+}
@@ -0,0 +1,47 @@
+package io.puth.client;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * In-memory {@link Transport} answering every request with a canned JSON body, so benchmarks measure the client
+ * without a server or network.
+ */
+public class CannedTransport implements Transport {
+    static final byte[] CONTEXT = json("{\"id\":\"c1\",\"type\":\"Context\",\"represents\":\"Context\"}");
+    static final byte[] SELF = json("{\"type\":\"GenericSelf\"}");
+
+    private final Function<Request, byte[]> responder;
+
+    public CannedTransport(Function<Request, byte[]> responder) {
+        this.responder = responder;
+    }
+
+    public CannedTransport(byte[] response) {
+        this(request -> response);
+    }
+
+    static byte[] json(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A context on this transport. Context creation is answered by the transport itself.
+     */
+    Context context() {
+        return new Context("http://canned", java.util.Map.of(), this);
+    }
+
+    @Override
+    public Response send(Request request) {
+        byte[] body = "POST".equals(request.method()) && "/context".equals(request.path()) ? CONTEXT : responder.apply(request);
+        return new Response(200, JSON, new ByteArrayInputStream(body));
+    }
+
+    @Override
+    public CompletableFuture<Response> sendAsync(Request request) {
+        return CompletableFuture.completedFuture(send(request));
+    }
+}
@@ -0,0 +1,44 @@
+package io.puth.client;
+
+import io.puth.client.remote.Browser;
+import io.puth.client.testing.FakePuthServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls per second through the HTTP transport against a {@link FakePuthServer} on loopback, shared by all benchmark
+ * threads, with optional server latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class FakeServerThroughputBenchmark {
+    @Param({"0", "5"})
+    public int latencyMillis;
+
+    private FakePuthServer server;
+    private Browser browser;
+
+    @Setup
+    public void setup() {
+        server = new FakePuthServer().withLatency(Duration.ofMillis(latencyMillis), Duration.ofMillis(latencyMillis / 2)).start();
+        browser = new Context(server.getBaseUrl(), Map.of()).createBrowserShim();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Object call() {
+        return browser.click("#submit");
+    }
+}
@@ -0,0 +1,55 @@
+package io.puth.client;
+
+import io.puth.client.remote.Browser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding call responses of different shapes and sizes, from the raw body to the returned value or remote objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseDecodingBenchmark {
+    private static final Object[] NO_ARGUMENTS = new Object[]{};
+
+    @Param({"GenericValue", "GenericObjects", "GenericArray"})
+    public String payload;
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private Browser browser;
+
+    @Setup
+    public void setup() {
+        Context context = new CannedTransport(CannedTransport.json(response(payload, size))).context();
+        browser = new Browser("b1", "GenericObject", "Browser", context, context);
+    }
+
+    static String response(String payload, int size) {
+        StringJoiner values = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < size; i++) {
+            values.add(switch (payload) {
+                case "GenericValue" -> "\"<div class=\\\"item\\\">Item " + i + "</div>\"";
+                case "GenericObjects" -> object(i);
+                default -> i % 2 == 0 ? "{\"type\":\"GenericValue\",\"value\":" + i + "}" : object(i);
+            });
+        }
+        return "{\"type\":\"" + payload + "\",\"value\":" + values + ",\"meta\":{\"assertions\":0}}";
+    }
+
+    private static String object(int i) {
+        return "{\"id\":\"00000000-0000-0000-0000-" + String.format("%012d", i) + "\",\"type\":\"GenericObject\",\"represents\":\"ElementHandle\"}";
+    }
+
+    @Benchmark
+    public Object decode() {
+        return browser.callFunc("evaluate", NO_ARGUMENTS);
+    }
+}
@@ -0,0 +1,86 @@
+package io.puth.client.spring;
+
+import io.puth.client.CannedTransport;
+import io.puth.client.Context;
+import io.puth.client.PortalRequest;
+import io.puth.client.PortalResponse;
+import io.puth.client.RemoteObject;
+import io.puth.client.Transport;
+import io.puth.client.remote.Browser;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translating portal requests into MockMvc requests and their responses back, alone and as part of a call that is
+ * answered with a portal request first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PortalTranslationBenchmark {
+    private static final Map<String, Object> REQUEST = Map.of(
+            "psuri", "p1",
+            "method", "POST",
+            "path", "/echo",
+            "headers", Map.of(
+                    "accept", List.of("text/html,application/xhtml+xml"),
+                    "accept-language", "en-US",
+                    "content-type", "application/x-www-form-urlencoded",
+                    "cookie", List.of("session=abc; theme=dark")
+            ),
+            "data", Base64.getEncoder().encodeToString("name=puth&value=benchmark".getBytes(StandardCharsets.UTF_8))
+    );
+
+    private static final byte[] SERVER_REQUEST = ("{\"type\":\"ServerRequest\",\"value\":{\"request\":{\"psuri\":\"p1\",\"method\":\"GET\",\"path\":\"/hello\","
+            + "\"headers\":{\"accept\":\"text/html\"}}}}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SELF = "{\"type\":\"GenericSelf\"}".getBytes(StandardCharsets.UTF_8);
+
+    @RestController
+    public static class BenchmarkController {
+        @GetMapping("/hello")
+        public String hello() {
+            return "<html><body><h1>Hello</h1></body></html>";
+        }
+
+        @PostMapping("/echo")
+        public String echo(@RequestBody String body) {
+            return body;
+        }
+    }
+
+    private RemoteObject.AsyncPortalRequestHandler handler;
+    private Browser browser;
+
+    @Setup
+    public void setup() {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new BenchmarkController()).build();
+        handler = MockMvcPortalProxy.of(() -> mockMvc);
+
+        Context context = new Context("http://canned", Map.of(), new CannedTransport(
+                (Transport.Request request) -> request.path().startsWith("/portal/response") ? SELF : SERVER_REQUEST
+        ));
+        context.setAsyncPortalRequestHandler(handler);
+        browser = new Browser("b1", "GenericObject", "Browser", context, context);
+    }
+
+    @Benchmark
+    public PortalResponse mockMvcProxy() {
+        return handler.handlePortalRequestAsync(PortalRequest.of(REQUEST)).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Object callWithPortalRequest() {
+        return browser.click("a");
+    }
+}
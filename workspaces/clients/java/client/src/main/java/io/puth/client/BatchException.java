@@ -0,0 +1,24 @@
+package io.puth.client;
+
+/**
+ * Thrown when a call inside a batch fails. Holds the position and function of the first failing call, the original
+ * error (assertion or server error) is available as the cause.
+ */
+public class BatchException extends RuntimeException {
+    private final int index;
+    private final String function;
+
+    public BatchException(int index, String function, Throwable cause) {
+        super("Batch call #" + index + " (" + function + ") failed: " + cause.getMessage(), cause);
+        this.index = index;
+        this.function = function;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getFunction() {
+        return function;
+    }
+}
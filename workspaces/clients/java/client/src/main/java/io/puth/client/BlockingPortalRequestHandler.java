@@ -0,0 +1,20 @@
+package io.puth.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * See {@link RemoteObject.AsyncPortalRequestHandler#blocking(Function)}.
+ */
+record BlockingPortalRequestHandler(Function<PortalRequest, PortalResponse> handler) implements RemoteObject.AsyncPortalRequestHandler {
+    @Override
+    public CompletionStage<PortalResponse> handlePortalRequestAsync(PortalRequest request) {
+        return handle(request, Runnable::run);
+    }
+
+    CompletableFuture<PortalResponse> handle(PortalRequest request, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> handler.apply(request), executor);
+    }
+}
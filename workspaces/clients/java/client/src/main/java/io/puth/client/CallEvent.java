@@ -0,0 +1,47 @@
+package io.puth.client;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A finished call or property read.
+ *
+ * @param kind          call or property read
+ * @param function      function or property name
+ * @param represents    remote type the call was made on, e.g. {@code Browser}
+ * @param contextId     id of the context the call belongs to
+ * @param requestBytes  bytes sent, including portal responses sent while the call was running
+ * @param responseBytes bytes received and decoded. Binary results are streamed to the caller and not counted.
+ * @param start         when the call started
+ * @param clientTime    wall time from sending the first request until the result was decoded
+ * @param serverTime    time the server reported for its requests, null if it did not report it
+ * @param outcome       how the call ended
+ * @param error         the assertion error or exception for failed calls, null otherwise
+ */
+public record CallEvent(
+        Kind kind,
+        String function,
+        String represents,
+        String contextId,
+        long requestBytes,
+        long responseBytes,
+        Instant start,
+        Duration clientTime,
+        Duration serverTime,
+        Outcome outcome,
+        Throwable error
+) {
+    public enum Kind {
+        CALL,
+        GET,
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        /**
+         * A Puth assertion failed.
+         */
+        FAILED,
+        ERROR,
+    }
+}
@@ -0,0 +1,14 @@
+package io.puth.client;
+
+/**
+ * Observes calls ({@code callFunc}), property reads ({@code getProperty}) and portal requests of the remote objects of
+ * a {@link Context}. Register with {@link Context#addCallListener}. Listeners are invoked on the thread completing the
+ * call and should return quickly; exceptions they throw are logged and otherwise ignored.
+ */
+@FunctionalInterface
+public interface CallListener {
+    void onCall(CallEvent event);
+
+    default void onPortalRequest(PortalEvent event) {
+    }
+}
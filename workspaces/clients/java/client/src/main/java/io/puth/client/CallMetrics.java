@@ -0,0 +1,166 @@
+package io.puth.client;
+
+import io.puth.client.jfr.RemoteCallEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.logging.Logger;
+
+/**
+ * Collects sizes and timings of the requests belonging to one call and reports them to the context's
+ * {@link CallListener}s and as {@link RemoteCallEvent} to JFR when the call finishes. Only created if there is a
+ * listener or a recording with the event enabled. Synchronous calls find their metrics through {@link #current()},
+ * asynchronous calls pass them along explicitly.
+ */
+final class CallMetrics {
+    private static final ThreadLocal<CallMetrics> current = new ThreadLocal<>();
+    private static final Logger logger = Logger.getLogger(CallMetrics.class.getName());
+
+    private final Context context;
+    private final CallEvent.Kind kind;
+    private final String function;
+    private final String represents;
+    private final long start = System.nanoTime();
+    private final Instant startedAt = Instant.now();
+
+    private final RemoteCallEvent flightEvent;
+
+    private CallMetrics previous;
+    private long requestBytes;
+    private long responseBytes;
+    private CountingInputStream lastResponse;
+    private Duration serverTime;
+
+    private CallMetrics(Context context, CallEvent.Kind kind, String function, String represents, RemoteCallEvent flightEvent) {
+        this.context = context;
+        this.kind = kind;
+        this.function = function;
+        this.represents = represents;
+        this.flightEvent = flightEvent;
+    }
+
+    /**
+     * Metrics for a call if the context has listeners or the JFR event is enabled, null otherwise.
+     */
+    static CallMetrics create(Context context, CallEvent.Kind kind, String function, String represents) {
+        RemoteCallEvent flightEvent = new RemoteCallEvent();
+        if (!flightEvent.isEnabled()) {
+            if (!context.hasCallListeners()) {
+                return null;
+            }
+            flightEvent = null;
+        } else {
+            flightEvent.begin();
+        }
+        return new CallMetrics(context, kind, function, represents, flightEvent);
+    }
+
+    /**
+     * Like {@link #create}, and makes the metrics {@link #current()} for this thread until {@link #finish}.
+     */
+    static CallMetrics begin(Context context, CallEvent.Kind kind, String function, String represents) {
+        CallMetrics metrics = create(context, kind, function, represents);
+        if (metrics != null) {
+            metrics.previous = current.get();
+            current.set(metrics);
+        }
+        return metrics;
+    }
+
+    static CallMetrics current() {
+        return current.get();
+    }
+
+    /**
+     * Counts the request and wraps the response body to count the bytes read from it.
+     */
+    Transport.Response record(Transport.Request request, Transport.Response response) {
+        requestBytes += request.size();
+        if (response.serverTime() != null) {
+            serverTime = serverTime == null ? response.serverTime() : serverTime.plus(response.serverTime());
+        }
+
+        if (lastResponse != null) {
+            responseBytes += lastResponse.getCount();
+        }
+        lastResponse = new CountingInputStream(response.body());
+
+        return new Transport.Response(response.status(), response.contentType(), lastResponse, response.serverTime());
+    }
+
+    static void finish(CallMetrics metrics, Throwable error) {
+        if (metrics == null) {
+            return;
+        }
+        if (current.get() == metrics) {
+            if (metrics.previous == null) {
+                current.remove();
+            } else {
+                current.set(metrics.previous);
+            }
+        }
+
+        CallEvent.Outcome outcome = error == null
+                ? CallEvent.Outcome.SUCCESS
+                : isAssertion(error) ? CallEvent.Outcome.FAILED : CallEvent.Outcome.ERROR;
+        long responseBytes = metrics.responseBytes + (metrics.lastResponse == null ? 0 : metrics.lastResponse.getCount());
+
+        RemoteCallEvent flightEvent = metrics.flightEvent;
+        if (flightEvent != null) {
+            // shouldCommit() compares the duration with the threshold, so it has to be ended first
+            flightEvent.end();
+            if (flightEvent.shouldCommit()) {
+                flightEvent.kind = metrics.kind.name();
+                flightEvent.function = metrics.function;
+                flightEvent.represents = metrics.represents;
+                flightEvent.contextId = metrics.context.getId();
+                flightEvent.requestBytes = metrics.requestBytes;
+                flightEvent.responseBytes = responseBytes;
+                flightEvent.outcome = outcome.name();
+                flightEvent.commit();
+            }
+        }
+        if (!metrics.context.hasCallListeners()) {
+            return;
+        }
+
+        CallEvent event = new CallEvent(
+                metrics.kind,
+                metrics.function,
+                metrics.represents,
+                metrics.context.getId(),
+                metrics.requestBytes,
+                responseBytes,
+                metrics.startedAt,
+                Duration.ofNanos(System.nanoTime() - metrics.start),
+                metrics.serverTime,
+                outcome,
+                error
+        );
+
+        for (CallListener listener : metrics.context.getCallListeners()) {
+            try {
+                listener.onCall(event);
+            } catch (Throwable t) {
+                logger.warning("Call listener failed: " + t);
+            }
+        }
+    }
+
+    static void portalRequest(Context context, PortalEvent event) {
+        for (CallListener listener : context.getCallListeners()) {
+            try {
+                listener.onPortalRequest(event);
+            } catch (Throwable t) {
+                logger.warning("Call listener failed: " + t);
+            }
+        }
+    }
+
+    private static boolean isAssertion(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof AssertionError) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package io.puth.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link CallListener} recording calls and portal requests as a Chrome Trace Event timeline, to be opened in
+ * {@code chrome://tracing}, Perfetto or speedscope. Each context gets its own track. Calls are categorized as
+ * {@code call}, {@code get} or {@code wait} (functions starting with "wait"), portal requests as {@code portal} and
+ * nest inside the call that triggered them, so the timeline shows how much of a call was spent in the application
+ * behind the portal. Server time and sizes are attached as arguments.
+ */
+public class ChromeTraceRecorder implements CallListener {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String name;
+    private final Instant origin = Instant.now();
+    private final Queue<Map<String, Object>> events = new ConcurrentLinkedQueue<>();
+    private final Map<String, Integer> tracks = new ConcurrentHashMap<>();
+    private final AtomicInteger trackIds = new AtomicInteger();
+
+    public ChromeTraceRecorder(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void onCall(CallEvent event) {
+        String category = switch (event.kind()) {
+            case GET -> "get";
+            case CALL -> event.function().startsWith("wait") ? "wait" : "call";
+        };
+
+        Map<String, Object> args = new LinkedHashMap<>();
+        args.put("outcome", event.outcome().name());
+        args.put("requestBytes", event.requestBytes());
+        args.put("responseBytes", event.responseBytes());
+        if (event.serverTime() != null) {
+            args.put("serverMs", event.serverTime().toNanos() / 1_000_000.0);
+        }
+        if (event.error() != null) {
+            args.put("error", String.valueOf(event.error().getMessage()));
+        }
+
+        add(event.represents() + "." + event.function(), category, event.contextId(), event.start(), event.clientTime(), args);
+    }
+
+    @Override
+    public void onPortalRequest(PortalEvent event) {
+        Map<String, Object> args = new LinkedHashMap<>();
+        args.put("status", event.status());
+        args.put("psuri", event.psuri());
+
+        add(event.method() + " " + event.path(), "portal", event.contextId(), event.start(), event.duration(), args);
+    }
+
+    private void add(String name, String category, String contextId, Instant start, Duration duration, Map<String, Object> args) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("name", name);
+        event.put("cat", category);
+        event.put("ph", "X");
+        event.put("ts", ChronoUnit.MICROS.between(origin, start));
+        event.put("dur", duration.toNanos() / 1_000);
+        event.put("pid", 1);
+        event.put("tid", track(contextId));
+        event.put("args", args);
+        events.add(event);
+    }
+
+    private int track(String contextId) {
+        return tracks.computeIfAbsent(String.valueOf(contextId), id -> trackIds.incrementAndGet());
+    }
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    public void write(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                write(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write trace " + file, e);
+        }
+    }
+
+    public void write(OutputStream out) throws IOException {
+        List<Map<String, Object>> traceEvents = new ArrayList<>();
+        traceEvents.add(metadata("process_name", 0, name));
+        tracks.forEach((contextId, tid) -> traceEvents.add(metadata("thread_name", tid, "Context " + contextId)));
+        traceEvents.addAll(events);
+
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceEvents", traceEvents);
+        trace.put("displayTimeUnit", "ms");
+        objectMapper.writeValue(out, trace);
+    }
+
+    private static Map<String, Object> metadata(String type, int tid, String name) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("name", type);
+        event.put("ph", "M");
+        event.put("pid", 1);
+        event.put("tid", tid);
+        event.put("args", Map.of("name", name));
+        return event;
+    }
+}
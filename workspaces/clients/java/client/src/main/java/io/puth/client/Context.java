@@ -1,42 +1,45 @@
 package io.puth.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 
-import java.net.URI;
 import java.net.http.*;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 public class Context extends io.puth.client.remote.Context {
     private final String baseUrl;
     private final Map<String, Object> options;
 
-    private final HttpClient client;
+    private final Transport transport;
 
     private boolean debug = false;
 
+    private RawValue serializedFragment;
+
+    private final CopyOnWriteArrayList<CallListener> callListeners = new CopyOnWriteArrayList<>();
+
     protected static final Logger logger = Logger.getLogger(Context.class.getName());
     protected static final ObjectMapper objectMapper = new ObjectMapper();
 
     public Context(String baseUrl, Map<String, Object> options) {
+        this(baseUrl, options, createTransport(baseUrl, options));
+    }
+
+    public Context(String baseUrl, Map<String, Object> options, Transport transport) {
         super(null, null, null, null, null); // Initialize parent class with placeholders
         this.baseUrl = baseUrl;
         this.options = options;
         this.debug = (Boolean) options.getOrDefault("debug", false);
-        this.client = HttpClient.newBuilder().build();
+        this.transport = transport;
 
         try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .version(HttpClient.Version.HTTP_1_1)
-                    .uri(new URI(baseUrl + "/context"))
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(options)))
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            Transport.Response response = transport.send(Transport.Request.json("POST", "/context", objectMapper.writeValueAsBytes(options)));
 
-            if (response.statusCode() == 200) {
+            if (response.status() == 200) {
                 Map<String, Object> responseBody = objectMapper.readValue(response.body(), new TypeReference<>() {
                 });
 
@@ -47,15 +50,31 @@ public class Context extends io.puth.client.remote.Context {
                 this.parent = null; // Context is the root, no parent
                 this.context = this;
             } else {
-                throw new RuntimeException("Failed to create context, status code: " + response.statusCode() + response.body());
+                throw new RuntimeException("Failed to create context, status code: " + response.status() + new String(response.body().readAllBytes()));
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize Context: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Picks the transport from the option {@code "transport"}: {@code "websocket"} or {@code "http"} (default). Both
+     * use the HttpClient shared by all contexts of the same instance and client settings, see {@link HttpClients}.
+     */
+    private static Transport createTransport(String baseUrl, Map<String, Object> options) {
+        HttpClient client = HttpClients.get(baseUrl, HttpClients.getSettings().with(options));
+        if ("websocket".equals(options.get("transport"))) {
+            return new WebSocketTransport(client, baseUrl);
+        }
+        return new HttpTransport(client, baseUrl);
+    }
+
     private RemoteObject.PortalRequestHandler portalRequestHandler;
 
+    private RemoteObject.AsyncPortalRequestHandler asyncPortalRequestHandler;
+
+    private volatile PortalDispatcher portalDispatcher = new PortalDispatcher(1);
+
     public RemoteObject.PortalRequestHandler getPortalRequestHandler() {
         return portalRequestHandler;
     }
@@ -64,6 +83,37 @@ public class Context extends io.puth.client.remote.Context {
         this.portalRequestHandler = h;
     }
 
+    public RemoteObject.AsyncPortalRequestHandler getAsyncPortalRequestHandler() {
+        return asyncPortalRequestHandler;
+    }
+
+    /**
+     * Handles portal requests without blocking, takes precedence over the blocking handler. The requests the server
+     * queued behind the current one are started right away whatever the {@link #setPortalConcurrency(int) portal
+     * concurrency}, so the handler must be thread safe. The pool that setting sizes is only used by handlers created
+     * with {@link RemoteObject.AsyncPortalRequestHandler#blocking}.
+     */
+    public void setAsyncPortalRequestHandler(RemoteObject.AsyncPortalRequestHandler h) {
+        this.asyncPortalRequestHandler = h;
+    }
+
+    /**
+     * Handles up to {@code concurrency} portal requests of blocking handlers in parallel, see {@link PortalDispatcher}.
+     * The portal request handler must be thread safe if greater than 1 (the MockMvc and HttpClient proxies are). 1
+     * (default) handles them one after another on the calling thread. Non-blocking async handlers do not need it.
+     */
+    public void setPortalConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Portal concurrency must be at least 1, got " + concurrency);
+        }
+        portalDispatcher.clear();
+        portalDispatcher = new PortalDispatcher(concurrency);
+    }
+
+    PortalDispatcher getPortalDispatcher() {
+        return portalDispatcher;
+    }
+
 //    public boolean destroy(Map<String, Object> options) {
 //        try {
 //            // Merge options with serialized context
@@ -93,6 +143,16 @@ public class Context extends io.puth.client.remote.Context {
 //        }
 //    }
 
+    @Override
+    public boolean destroy(Object options) {
+        try {
+            return super.destroy(options);
+        } finally {
+            portalDispatcher.clear();
+            transport.close();
+        }
+    }
+
     public boolean isDebug() {
         return debug;
     }
@@ -104,9 +164,53 @@ public class Context extends io.puth.client.remote.Context {
         }
     }
 
+    /**
+     * The underlying HttpClient, null if the transport is not HTTP based.
+     */
     @Override
     public HttpClient getClient() {
-        return this.client;
+        if (transport instanceof HttpTransport http) return http.getClient();
+        if (transport instanceof WebSocketTransport webSocket) return webSocket.getClient();
+        return null;
+    }
+
+    /**
+     * The serialized context ({@code {"id", "type", "represents"}}) every request envelope carries, written once and
+     * embedded as raw JSON.
+     */
+    RawValue serializedFragment() {
+        if (serializedFragment == null) {
+            try {
+                serializedFragment = new RawValue(objectMapper.writeValueAsString(serialize()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize context", e);
+            }
+        }
+        return serializedFragment;
+    }
+
+    /**
+     * Registers a listener for the calls of all remote objects of this context. Adding the same listener twice has
+     * no effect.
+     */
+    public void addCallListener(CallListener listener) {
+        callListeners.addIfAbsent(listener);
+    }
+
+    public void removeCallListener(CallListener listener) {
+        callListeners.remove(listener);
+    }
+
+    List<CallListener> getCallListeners() {
+        return callListeners;
+    }
+
+    boolean hasCallListeners() {
+        return !callListeners.isEmpty();
+    }
+
+    public Transport getTransport() {
+        return transport;
     }
 
     public String getBaseUrl() {
@@ -0,0 +1,142 @@
+package io.puth.client;
+
+import io.puth.client.remote.Browser;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Logger;
+
+/**
+ * Keeps up to {@code size} contexts with a launched browser alive and hands them out to tests, so the browser launch
+ * is paid once per pooled entry instead of once per test. On {@link #release(Lease)} the browser is reset (cookies,
+ * storage, about:blank) and the entry goes back into the pool. Entries whose reset fails are destroyed and replaced
+ * on the next {@link #acquire()}.
+ * <p>
+ * A pooled context lives across tests, so snapshots of consecutive tests end up in the same context. To keep
+ * reporting per test, acquire with the test's name ({@link #acquire(Map)}) and release with its outcome
+ * ({@link #release(Lease, boolean)}).
+ */
+public class ContextPool implements AutoCloseable {
+    private final String baseUrl;
+    private final Map<String, Object> options;
+    private final Semaphore permits;
+    private final LinkedBlockingQueue<Lease> idle = new LinkedBlockingQueue<>();
+
+    private volatile boolean closed = false;
+
+    protected static final Logger logger = Logger.getLogger(ContextPool.class.getName());
+
+    public record Lease(Context context, Browser browser) {
+    }
+
+    public ContextPool(String baseUrl, Map<String, Object> options, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, got " + size);
+        }
+        this.baseUrl = Objects.requireNonNull(baseUrl);
+        this.options = Map.copyOf(options);
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Takes an idle entry or creates a new one, blocks while all entries are in use.
+     */
+    public Lease acquire() {
+        if (closed) {
+            throw new IllegalStateException("ContextPool is closed");
+        }
+
+        permits.acquireUninterruptibly();
+        Lease lease = idle.poll();
+        if (lease != null) {
+            return lease;
+        }
+
+        try {
+            Context context = new Context(baseUrl, options);
+            return new Lease(context, context.createBrowserShim());
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Like {@link #acquire()}, and tells the server that the test {@code test} ({@code name}, {@code group}) starts on
+     * the entry's context, which resets the context's test status.
+     */
+    public Lease acquire(Map<String, Object> test) {
+        Lease lease = acquire();
+        try {
+            lease.context().testStarted(test);
+        } catch (RuntimeException e) {
+            release(lease, true);
+            throw e;
+        }
+        return lease;
+    }
+
+    /**
+     * Resets the browser and returns the entry to the pool.
+     */
+    public void release(Lease lease) {
+        release(lease, false);
+    }
+
+    /**
+     * Reports the outcome of the entry's test to the server. Entries of failed tests are destroyed instead of returned
+     * to the pool, so their context keeps the failed status and the next test starts on a fresh browser.
+     */
+    public void release(Lease lease, boolean testFailed) {
+        try {
+            if (testFailed) {
+                try {
+                    lease.context().testFailed();
+                } catch (Throwable t) {
+                    logger.warning("Failed to report failed test: " + t.getMessage());
+                }
+                destroy(lease);
+                return;
+            }
+            if (closed) {
+                destroy(lease);
+                return;
+            }
+
+            try {
+                lease.context().testSuccess();
+                lease.context().setPortalRequestHandler(null);
+                lease.context().setAsyncPortalRequestHandler(null);
+                lease.browser().reset();
+                idle.add(lease);
+            } catch (Throwable t) {
+                logger.warning("Dropping pooled context, reset failed: " + t.getMessage());
+                destroy(lease);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Destroys all idle entries. Entries still in use are destroyed when they are released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Lease lease;
+        while ((lease = idle.poll()) != null) {
+            destroy(lease);
+        }
+    }
+
+    private static void destroy(Lease lease) {
+        try {
+            lease.context().destroy(Map.of("context", Map.of()));
+        } catch (Throwable t) {
+            logger.warning("Failed to destroy pooled context: " + t.getMessage());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.puth.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the Generic* envelope of a call response straight from the token stream. The common results (objects,
+ * object lists, values, self and null) are resolved without building an intermediate map: remote objects are created
+ * from their {@code id}, {@code type} and {@code represents} fields, values are read as is and {@code meta} is skipped.
+ * Everything else (errors, failed expectations, portal requests, dialogs, mixed arrays) is returned as a
+ * {@link Fallback} holding the full map, to be handled by {@link RemoteObject#parseGeneric}.
+ */
+final class GenericDecoder {
+    record Fallback(Map<String, Object> generic) {
+    }
+
+    private GenericDecoder() {
+    }
+
+    static Object decode(JsonParser parser, RemoteObject on) throws IOException {
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Server response: expected a JSON object, got " + parser.currentToken());
+            }
+
+            String type = null;
+            String id = null;
+            String represents = null;
+            Object value = null;
+            boolean resolved = false;
+            Map<String, Object> rest = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "type" -> type = parser.getValueAsString();
+                    case "id" -> id = parser.getValueAsString();
+                    case "represents" -> represents = parser.getValueAsString();
+                    case "value" -> {
+                        if ("GenericObjects".equals(type) && parser.currentToken() == JsonToken.START_ARRAY) {
+                            value = readObjects(parser, on);
+                            resolved = true;
+                        } else {
+                            value = parser.readValueAs(Object.class);
+                        }
+                    }
+                    case "meta" -> {
+                        // meta (assertion counts) is not used by the client
+                        parser.skipChildren();
+                    }
+                    default -> {
+                        if (rest == null) rest = new HashMap<>();
+                        rest.put(field, parser.readValueAs(Object.class));
+                    }
+                }
+            }
+
+            if (type == null && rest == null && value == null) {
+                return on.self();
+            }
+            if (type != null && rest == null) {
+                switch (type) {
+                    case "GenericObject":
+                        return on.resolveRemoteObject(id, type, represents);
+                    case "GenericObjects":
+                        if (resolved) return value;
+                        break;
+                    case "GenericValue":
+                    case "GenericValues":
+                        return value;
+                    case "GenericNull":
+                        return null;
+                    case "GenericSelf":
+                    case "GenericUndefined":
+                        return on.self();
+                }
+            }
+
+            Map<String, Object> generic = rest != null ? rest : new HashMap<>();
+            generic.put("type", type);
+            if (id != null) generic.put("id", id);
+            if (represents != null) generic.put("represents", represents);
+            if (value != null) generic.put("value", value);
+
+            return new Fallback(generic);
+        }
+    }
+
+    /**
+     * Reads the array of a GenericObjects result up to its end. {@code null} elements are kept, other non-object
+     * elements are skipped.
+     */
+    private static RemoteObject[] readObjects(JsonParser parser, RemoteObject on) throws IOException {
+        List<RemoteObject> objects = new ArrayList<>();
+        Class<? extends RemoteObject> elementType = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("Server response: unexpected end of GenericObjects value");
+            }
+            if (token == JsonToken.VALUE_NULL) {
+                objects.add(null);
+                continue;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            String id = null;
+            String type = null;
+            String represents = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> id = parser.getValueAsString();
+                    case "type" -> type = parser.getValueAsString();
+                    case "represents" -> represents = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            RemoteObject object = on.resolveRemoteObject(id, type, represents);
+            if (elementType == null) elementType = object.getClass();
+            objects.add(object);
+        }
+
+        if (elementType == null) {
+            return new RemoteObject[objects.size()];
+        }
+        return objects.toArray(on.typedArray(elementType, objects.size()));
+    }
+}
@@ -0,0 +1,110 @@
+package io.puth.client;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * HttpClients shared by all contexts talking to the same Puth instance. Creating a client per context starts a
+ * selector thread and an empty connection pool for every test, sharing one keeps connections to the instance alive
+ * across tests. Clients are created on first use per base URL and {@link Settings} and live as long as the JVM.
+ * <pre>{@code
+ * HttpClients.configure(HttpClients.Settings.DEFAULT
+ *         .withConnectTimeout(Duration.ofSeconds(2))
+ *         .withExecutor(VirtualThreads.executor())
+ *         .withConnectionPoolSize(32));
+ * }</pre>
+ * The settings can also be passed per context with the options {@code "connectTimeout"} (milliseconds),
+ * {@code "httpVersion"} ({@code "HTTP_1_1"} or {@code "HTTP_2"}), {@code "virtualThreads"} and
+ * {@code "connectionPoolSize"}.
+ */
+public final class HttpClients {
+    /**
+     * @param connectionPoolSize maximum number of idle connections kept per host, 0 for unlimited. The JDK reads this
+     *                           once per JVM (system property {@code jdk.httpclient.connectionPoolSize}), so only the
+     *                           value of the first client created counts.
+     */
+    public record Settings(HttpClient.Version version, Duration connectTimeout, Executor executor, int connectionPoolSize) {
+        public static final Settings DEFAULT = new Settings(HttpClient.Version.HTTP_1_1, null, null, 0);
+
+        public Settings withVersion(HttpClient.Version version) {
+            return new Settings(version, connectTimeout, executor, connectionPoolSize);
+        }
+
+        public Settings withConnectTimeout(Duration connectTimeout) {
+            return new Settings(version, connectTimeout, executor, connectionPoolSize);
+        }
+
+        public Settings withExecutor(Executor executor) {
+            return new Settings(version, connectTimeout, executor, connectionPoolSize);
+        }
+
+        public Settings withConnectionPoolSize(int connectionPoolSize) {
+            return new Settings(version, connectTimeout, executor, connectionPoolSize);
+        }
+
+        /**
+         * Applies the context options on top of these settings.
+         */
+        public Settings with(Map<String, Object> options) {
+            Settings settings = this;
+            if (options.get("httpVersion") instanceof String version) {
+                settings = settings.withVersion(HttpClient.Version.valueOf(version));
+            }
+            if (options.get("connectTimeout") instanceof Number millis) {
+                settings = settings.withConnectTimeout(Duration.ofMillis(millis.longValue()));
+            }
+            if (Boolean.TRUE.equals(options.get("virtualThreads"))) {
+                settings = settings.withExecutor(VirtualThreads.executor());
+            }
+            if (options.get("connectionPoolSize") instanceof Number size) {
+                settings = settings.withConnectionPoolSize(size.intValue());
+            }
+            return settings;
+        }
+    }
+
+    private static final Map<List<Object>, HttpClient> clients = new ConcurrentHashMap<>();
+
+    private static volatile Settings defaults = Settings.DEFAULT;
+
+    private HttpClients() {
+    }
+
+    /**
+     * Sets the settings used for contexts created afterwards, before applying their options.
+     */
+    public static void configure(Settings settings) {
+        defaults = settings;
+    }
+
+    public static Settings getSettings() {
+        return defaults;
+    }
+
+    public static HttpClient get(String baseUrl) {
+        return get(baseUrl, defaults);
+    }
+
+    public static HttpClient get(String baseUrl, Settings settings) {
+        return clients.computeIfAbsent(List.of(baseUrl, settings), key -> create(settings));
+    }
+
+    private static HttpClient create(Settings settings) {
+        if (settings.connectionPoolSize() > 0 && System.getProperty("jdk.httpclient.connectionPoolSize") == null) {
+            System.setProperty("jdk.httpclient.connectionPoolSize", String.valueOf(settings.connectionPoolSize()));
+        }
+
+        HttpClient.Builder builder = HttpClient.newBuilder().version(settings.version());
+        if (settings.connectTimeout() != null) {
+            builder.connectTimeout(settings.connectTimeout());
+        }
+        if (settings.executor() != null) {
+            builder.executor(settings.executor());
+        }
+        return builder.build();
+    }
+}
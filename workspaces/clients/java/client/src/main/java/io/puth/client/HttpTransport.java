@@ -0,0 +1,99 @@
+package io.puth.client;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Default {@link Transport} sending every request as a separate java.net.http request.
+ */
+public class HttpTransport implements Transport {
+    private final HttpClient client;
+    private final String baseUrl;
+
+    public HttpTransport(String baseUrl) {
+        this(HttpClients.get(baseUrl), baseUrl);
+    }
+
+    public HttpTransport(HttpClient client, String baseUrl) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public Response send(Request request) throws Exception {
+        return toResponse(client.send(toHttpRequest(request), HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    @Override
+    public CompletableFuture<Response> sendAsync(Request request) {
+        return client.sendAsync(toHttpRequest(request), HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(HttpTransport::toResponse);
+    }
+
+    protected HttpRequest toHttpRequest(Request request) {
+        // the HTTP version is the client's, see HttpClients.Settings
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + request.path()))
+                .header("Content-Type", request.contentType())
+                .method(request.method(), bodyPublisher(request))
+                .build();
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(Request request) {
+        HttpRequest.BodyPublisher body = request.body() == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(request.body());
+        ByteBuffer attachment = request.attachment();
+        if (attachment == null || !attachment.hasRemaining()) {
+            return body;
+        }
+        HttpRequest.BodyPublisher attached = attachment.hasArray()
+                ? HttpRequest.BodyPublishers.ofByteArray(attachment.array(), attachment.arrayOffset() + attachment.position(), attachment.remaining())
+                : HttpRequest.BodyPublishers.ofByteArray(request.bytes(), request.body() == null ? 0 : request.body().length, attachment.remaining());
+        return HttpRequest.BodyPublishers.concat(body, attached);
+    }
+
+    private static Response toResponse(HttpResponse<InputStream> response) {
+        return new Response(
+                response.statusCode(),
+                response.headers().firstValue("Content-Type").orElse(""),
+                response.body(),
+                response.headers().firstValue("Server-Timing").map(HttpTransport::parseServerTiming).orElse(null)
+        );
+    }
+
+    /**
+     * Reads the duration of the {@code puth} metric, e.g. {@code puth;dur=12.5}.
+     */
+    static Duration parseServerTiming(String header) {
+        for (String metric : header.split(",")) {
+            String[] parts = metric.trim().split(";");
+            if (!"puth".equals(parts[0].trim())) continue;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("dur=")) {
+                    try {
+                        return Duration.ofNanos((long) (Double.parseDouble(parameter.substring(4)) * 1_000_000));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    public HttpClient getClient() {
+        return client;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+}
@@ -0,0 +1,155 @@
+package io.puth.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CallListener} keeping a latency histogram per remote type and function (e.g. {@code Browser.visit}), to find
+ * the steps that make a test suite slow. Histograms use log-linear buckets (16 per power of two, so percentiles are
+ * accurate to about 6%) and are safe to update from multiple threads. One recorder can be added to many contexts.
+ */
+public class LatencyRecorder implements CallListener {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param serverP50 median time reported by the server, null if the server did not report timings
+     */
+    public record Summary(String function, long count, Duration p50, Duration p99, Duration max, Duration total, Duration serverP50) {
+    }
+
+    @Override
+    public void onCall(CallEvent event) {
+        String key = event.represents() + "." + event.function() + (event.kind() == CallEvent.Kind.GET ? " (get)" : "");
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        entry.client.record(event.clientTime().toNanos());
+        if (event.serverTime() != null) {
+            entry.server.record(event.serverTime().toNanos());
+        }
+    }
+
+    /**
+     * Summaries of all recorded functions, the ones with the most total time first.
+     */
+    public List<Summary> summaries() {
+        List<Summary> summaries = new ArrayList<>();
+        entries.forEach((function, entry) -> summaries.add(new Summary(
+                function,
+                entry.client.count(),
+                Duration.ofNanos(entry.client.percentile(50)),
+                Duration.ofNanos(entry.client.percentile(99)),
+                Duration.ofNanos(entry.client.max()),
+                Duration.ofNanos(entry.client.total()),
+                entry.server.count() == 0 ? null : Duration.ofNanos(entry.server.percentile(50))
+        )));
+        summaries.sort(Comparator.comparing(Summary::total).reversed());
+        return summaries;
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+
+    /**
+     * The summaries as a table.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("%-40s %8s %10s %10s %10s %12s %12s%n", "function", "count", "p50", "p99", "max", "total", "server p50"));
+        for (Summary summary : summaries()) {
+            report.append(String.format("%-40s %8d %10s %10s %10s %12s %12s%n",
+                    summary.function(),
+                    summary.count(),
+                    format(summary.p50()),
+                    format(summary.p99()),
+                    format(summary.max()),
+                    format(summary.total()),
+                    summary.serverP50() == null ? "-" : format(summary.serverP50())));
+        }
+        return report.toString();
+    }
+
+    private static String format(Duration duration) {
+        return String.format("%.1fms", duration.toNanos() / 1_000_000.0);
+    }
+
+    private static final class Entry {
+        final Histogram client = new Histogram();
+        final Histogram server = new Histogram();
+    }
+
+    static final class Histogram {
+        private static final int SUB_BUCKET_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long value) {
+            value = Math.max(0, value);
+            buckets.incrementAndGet(index(value));
+            count.increment();
+            total.add(value);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        long total() {
+            return total.sum();
+        }
+
+        long max() {
+            return max.get();
+        }
+
+        /**
+         * The value below which {@code percentile} percent of the recorded values fall, reported as the middle of its
+         * bucket.
+         */
+        long percentile(double percentile) {
+            long count = count();
+            if (count == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min(max(), middle(i));
+                }
+            }
+            return max();
+        }
+
+        static int index(long value) {
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            if (exponent < SUB_BUCKET_BITS) {
+                return (int) value;
+            }
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        static long middle(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            long width = 1L << (exponent - SUB_BUCKET_BITS);
+            long lower = (1L << exponent) + (index % SUB_BUCKETS) * width;
+            return lower + width / 2;
+        }
+    }
+}
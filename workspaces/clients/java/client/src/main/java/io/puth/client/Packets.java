@@ -0,0 +1,81 @@
+package io.puth.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request envelopes sent to the server. The {@code context} of every envelope is the context's pre-serialized JSON
+ * fragment ({@link Context#serializedFragment()}), written as is.
+ */
+final class Packets {
+    /**
+     * Shared writer for all envelopes, serializers are resolved once per record type and reused.
+     */
+    static final ObjectWriter writer = new ObjectMapper().writer();
+
+    private Packets() {
+    }
+
+    /**
+     * A remote object passed as call parameter.
+     */
+    record Reference(String id, String type, String represents) {
+    }
+
+    /**
+     * {@code PATCH /context/call}
+     */
+    record Call(RawValue context, String type, String id, String function, Object[] parameters) {
+    }
+
+    /**
+     * {@code PATCH /context/call/batch}
+     */
+    record Batch(RawValue context, List<BatchedCall> calls) {
+    }
+
+    record BatchedCall(String type, String id, String function, Object[] parameters) {
+    }
+
+    /**
+     * {@code PATCH /context/get}
+     */
+    record Get(RawValue context, String type, String id, String property) {
+    }
+
+    /**
+     * {@code PATCH /portal/response}
+     */
+    record PortalResponse(RawValue context, Map<String, Object> response) {
+    }
+
+    /**
+     * {@code PATCH /portal/response} with a base64 string body, or {@code PATCH /portal/response/binary} if the body
+     * is a byte array or buffer: the length of the JSON envelope (4 bytes, big endian), the envelope without the body
+     * and then the body as is, attached without copying it.
+     */
+    static Transport.Request portalResponse(RawValue context, Map<String, Object> response) throws IOException {
+        Object body = response.get("body");
+        if (!(body instanceof byte[]) && !(body instanceof ByteBuffer)) {
+            return Transport.Request.json("PATCH", "/portal/response", writer.writeValueAsBytes(new PortalResponse(context, response)));
+        }
+
+        Map<String, Object> withoutBody = new HashMap<>(response);
+        withoutBody.remove("body");
+        byte[] envelope = writer.writeValueAsBytes(new PortalResponse(context, withoutBody));
+
+        byte[] header = ByteBuffer.allocate(4 + envelope.length)
+                .putInt(envelope.length)
+                .put(envelope)
+                .array();
+        ByteBuffer attachment = body instanceof ByteBuffer buffer ? buffer.duplicate() : ByteBuffer.wrap((byte[]) body);
+        return Transport.Request.binary("PATCH", "/portal/response/binary", header, attachment);
+    }
+}
@@ -0,0 +1,240 @@
+package io.puth.client;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches portal responses in front of a {@link RemoteObject.AsyncPortalRequestHandler}, so static assets loaded by
+ * every test are served from memory instead of being dispatched into the application again:
+ * <pre>{@code
+ * PortalCache cache = new PortalCache(64 * 1024 * 1024);
+ * context.setAsyncPortalRequestHandler(cache.wrap(handler));
+ * }</pre>
+ * Only successful GET responses are stored, following their {@code Cache-Control}: {@code max-age} (or
+ * {@code s-maxage}) responses are served without asking the handler until they expire, responses with {@code no-cache}
+ * or without lifetime are stored if they carry an {@code ETag} or {@code Last-Modified} and revalidated with a
+ * conditional request, a {@code 304} serves the stored body. {@code no-store} and {@code private} responses, and
+ * responses setting a cookie, are never stored. Entries are keyed by origin, path and the request headers named in
+ * {@code Vary}, and evicted least recently used first once their bodies exceed {@code maxBytes}.
+ * <p>
+ * Requests that are conditional already (sent by the browser's own cache) bypass the cache. One instance can be
+ * shared by several tests as long as they talk to the same application, different applications need their own.
+ */
+public class PortalCache {
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private record Entry(PortalResponse response, Map<String, String> vary, long expiresAt, String etag, String lastModified) {
+        boolean isFresh(long now) {
+            return expiresAt - now > 0;
+        }
+
+        long size() {
+            return response.body().remaining();
+        }
+    }
+
+    public PortalCache(long maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1 byte, got " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Wraps {@code handler}, blocking handlers stay blocking (see
+     * {@link RemoteObject.AsyncPortalRequestHandler#blocking}).
+     */
+    public RemoteObject.AsyncPortalRequestHandler wrap(RemoteObject.AsyncPortalRequestHandler handler) {
+        if (handler instanceof BlockingPortalRequestHandler blocking) {
+            return RemoteObject.AsyncPortalRequestHandler.blocking(request -> handle(request, r -> CompletableFuture.completedFuture(blocking.handler().apply(r))).join());
+        }
+        return request -> handle(request, r -> handler.handlePortalRequestAsync(r).toCompletableFuture());
+    }
+
+    private CompletableFuture<PortalResponse> handle(PortalRequest request, Function<PortalRequest, CompletableFuture<PortalResponse>> handler) {
+        PortalHeaders requestHeaders = request.headers();
+        if (!"GET".equalsIgnoreCase(request.method())
+                || requestHeaders.contains("if-none-match")
+                || requestHeaders.contains("if-modified-since")) {
+            return handler.apply(request);
+        }
+
+        String key = key(request);
+        Entry cached;
+        synchronized (this) {
+            cached = entries.get(key);
+        }
+        Entry entry = cached != null && cached.vary().equals(varyValues(cached.vary().keySet(), requestHeaders)) ? cached : null;
+
+        long now = System.nanoTime();
+        if (entry != null && entry.isFresh(now)) {
+            hits.incrementAndGet();
+            return CompletableFuture.completedFuture(copy(entry.response()));
+        }
+
+        if (entry != null) {
+            return handler.apply(conditional(request, entry)).thenApply(response -> {
+                if (response != null && response.status() == 304) {
+                    revalidations.incrementAndGet();
+                    // headers of the stored response, updated with those of the 304 (RFC 9111, 4.3.4)
+                    PortalResponse merged = new PortalResponse(entry.response().status(), entry.response().headers().with(response.headers()), entry.response().body());
+                    PortalResponse refreshed = store(key, merged, entry.vary().keySet(), requestHeaders, now);
+                    return copy(refreshed != null ? refreshed : merged);
+                }
+                misses.incrementAndGet();
+                store(key, response, requestHeaders, now);
+                return response;
+            });
+        }
+
+        misses.incrementAndGet();
+        return handler.apply(request).thenApply(response -> {
+            store(key, response, requestHeaders, now);
+            return response;
+        });
+    }
+
+    private void store(String key, PortalResponse response, PortalHeaders requestHeaders, long now) {
+        if (response == null || response.status() != 200) return;
+
+        Set<String> vary = new TreeSet<>();
+        String varyHeader = response.headers().first("vary");
+        if (varyHeader != null) {
+            for (String name : varyHeader.split(",")) {
+                if (name.isBlank()) continue;
+                if (name.trim().equals("*")) return;
+                vary.add(name.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        store(key, response, vary, requestHeaders, now);
+    }
+
+    /**
+     * @return the stored response, null if it is not cacheable
+     */
+    private PortalResponse store(String key, PortalResponse response, Set<String> vary, PortalHeaders requestHeaders, long now) {
+        PortalHeaders headers = response.headers();
+        String cacheControl = Objects.requireNonNullElse(headers.first("cache-control"), "").toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-store") || cacheControl.contains("private") || headers.contains("set-cookie")) {
+            remove(key);
+            return null;
+        }
+
+        long maxAge = cacheControl.contains("no-cache") ? 0 : maxAge(cacheControl);
+        String etag = headers.first("etag");
+        String lastModified = headers.first("last-modified");
+        if (maxAge <= 0 && etag == null && lastModified == null) {
+            remove(key);
+            return null;
+        }
+        if (response.body().remaining() > maxBytes) {
+            remove(key);
+            return null;
+        }
+
+        PortalResponse stored = copy(response);
+        Entry entry = new Entry(stored, varyValues(vary, requestHeaders), now + Math.max(maxAge, 0) * 1_000_000_000L, etag, lastModified);
+
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) bytes -= previous.size();
+            bytes += entry.size();
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().size();
+                eldest.remove();
+            }
+        }
+        return stored;
+    }
+
+    private synchronized void remove(String key) {
+        Entry previous = entries.remove(key);
+        if (previous != null) bytes -= previous.size();
+    }
+
+    /**
+     * Origin and path, portal requests of different hosts can share a path.
+     */
+    private static String key(PortalRequest request) {
+        String url = request.url();
+        if (url == null) return request.path();
+        try {
+            URI uri = URI.create(url);
+            return uri.getScheme() == null ? request.path() : uri.getScheme() + "://" + uri.getRawAuthority() + request.path();
+        } catch (IllegalArgumentException e) {
+            return request.path();
+        }
+    }
+
+    private static PortalRequest conditional(PortalRequest request, Entry entry) {
+        PortalHeaders headers = request.headers();
+        if (entry.etag() != null) headers = headers.with("If-None-Match", entry.etag());
+        if (entry.lastModified() != null) headers = headers.with("If-Modified-Since", entry.lastModified());
+        return request.withHeaders(headers);
+    }
+
+    private static Map<String, String> varyValues(Set<String> vary, PortalHeaders requestHeaders) {
+        Map<String, String> values = new TreeMap<>();
+        for (String name : vary) {
+            values.put(name, Objects.requireNonNullElse(requestHeaders.first(name), ""));
+        }
+        return values;
+    }
+
+    private static long maxAge(String cacheControl) {
+        long maxAge = -1;
+        for (String directive : cacheControl.split(",")) {
+            String[] parts = directive.trim().split("=", 2);
+            if (parts.length != 2) continue;
+            if (parts[0].equals("s-maxage") || (parts[0].equals("max-age") && maxAge < 0)) {
+                try {
+                    maxAge = Long.parseLong(parts[1].trim().replace("\"", ""));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        return maxAge;
+    }
+
+    /**
+     * Responses share the body bytes, each gets its own buffer position.
+     */
+    private static PortalResponse copy(PortalResponse response) {
+        return new PortalResponse(response.status(), response.headers(), response.body().duplicate());
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Stored responses served after the handler answered a conditional request with 304.
+     */
+    public long getRevalidationCount() {
+        return revalidations.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public synchronized long getSize() {
+        return bytes;
+    }
+}
@@ -0,0 +1,97 @@
+package io.puth.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Handles the portal requests of a context. The server hands out portal requests one at a time and expects their
+ * responses in queue order, but sends the requests queued behind the current one along ({@code pending}). Those are
+ * started right away, keyed by {@code psuri}, so by the time the server asks for them their responses are usually
+ * ready and a page loading many assets through the portal is not served one request after another.
+ * <p>
+ * Blocking handlers run pending requests on up to {@code concurrency} threads at a time, there is no pool (and
+ * blocking handlers get no pending requests) if it is 1. The threads are virtual threads of {@link VirtualThreads}
+ * on Java 21+ and a pool of platform threads otherwise. Async handlers ({@link RemoteObject.AsyncPortalRequestHandler})
+ * do not need the threads and do not occupy them while their responses are outstanding. With pending requests the
+ * handler is called from several threads at once and has to be thread safe.
+ */
+class PortalDispatcher {
+    private static final AtomicInteger threads = new AtomicInteger();
+
+    private final Executor executor;
+    private final Map<String, CompletableFuture<Map<String, Object>>> inflight = new ConcurrentHashMap<>();
+
+    PortalDispatcher(int concurrency) {
+        this(concurrency, VirtualThreads.isSupported() ? VirtualThreads.executor() : null);
+    }
+
+    /**
+     * Runs blocking handlers on {@code shared}, at most {@code concurrency} of them at once. Creates a pool of
+     * {@code concurrency} platform threads if {@code shared} is null.
+     */
+    PortalDispatcher(int concurrency, Executor shared) {
+        if (concurrency <= 1) {
+            executor = null;
+        } else if (shared != null) {
+            executor = limit(shared, concurrency);
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(concurrency, concurrency, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "puth-portal-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+    }
+
+    private static Executor limit(Executor shared, int concurrency) {
+        // waiting for a permit is cheap on a virtual thread, fair so requests start in the order they were queued
+        Semaphore permits = new Semaphore(concurrency, true);
+        return task -> shared.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Whether there is a pool to run blocking handlers of pending requests on.
+     */
+    boolean isPooled() {
+        return executor != null;
+    }
+
+    /**
+     * Starts the pending requests not yet started and returns the response to {@code request}. {@code start} gets the
+     * executor blocking handlers should run on: the pool for pending requests, the calling thread for {@code request}
+     * unless it was started before. Without a pool, only pass pending requests of non-blocking handlers.
+     */
+    CompletableFuture<Map<String, Object>> dispatch(Map<String, Object> request, List<Map<String, Object>> pending, BiFunction<Map<String, Object>, Executor, CompletableFuture<Map<String, Object>>> start) {
+        for (Map<String, Object> next : pending) {
+            Object psuri = next.get("psuri");
+            if (psuri == null) continue;
+            inflight.computeIfAbsent(String.valueOf(psuri), key -> start.apply(next, executor != null ? executor : Runnable::run));
+        }
+
+        CompletableFuture<Map<String, Object>> started = inflight.remove(String.valueOf(request.get("psuri")));
+        if (started != null) {
+            return started;
+        }
+        return start.apply(request, Runnable::run);
+    }
+
+    /**
+     * Drops requests that were started but never asked for, e.g. because the page navigated away.
+     */
+    void clear() {
+        inflight.values().forEach(future -> future.cancel(false));
+        inflight.clear();
+    }
+}
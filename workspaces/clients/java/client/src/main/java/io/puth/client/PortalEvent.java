@@ -0,0 +1,26 @@
+package io.puth.client;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A portal request answered by the context's portal request handler while a call was running.
+ *
+ * @param contextId id of the context the portal request belongs to
+ * @param psuri     id of the portal request
+ * @param method    HTTP method of the request
+ * @param path      path of the request
+ * @param status    status of the handler's response, 0 if it did not set one
+ * @param start     when the handler was invoked
+ * @param duration  time the handler took
+ */
+public record PortalEvent(
+        String contextId,
+        String psuri,
+        String method,
+        String path,
+        int status,
+        Instant start,
+        Duration duration
+) {
+}
@@ -0,0 +1,118 @@
+package io.puth.client;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Read-only view of portal request or response headers. Wraps the map as received (values are strings or lists of
+ * strings) without copying it. Values are converted to strings only when they are read, and lookups ignore case.
+ */
+public final class PortalHeaders {
+    private static final PortalHeaders EMPTY = new PortalHeaders(Map.of());
+
+    private final Map<String, ?> raw;
+
+    private PortalHeaders(Map<String, ?> raw) {
+        this.raw = raw;
+    }
+
+    /**
+     * Wraps {@code headers}, e.g. {@code HttpResponse.headers().map()} or Spring's {@code HttpHeaders}, which must not
+     * be modified afterwards.
+     */
+    public static PortalHeaders of(Map<String, ?> headers) {
+        return headers == null || headers.isEmpty() ? EMPTY : new PortalHeaders(headers);
+    }
+
+    @SuppressWarnings("unchecked")
+    static PortalHeaders from(Object headers) {
+        return headers instanceof Map<?, ?> map ? of((Map<String, ?>) map) : EMPTY;
+    }
+
+    /**
+     * First value of the header, null if absent.
+     */
+    public String first(String name) {
+        Object value = lookup(name);
+        if (value instanceof List<?> list) return list.isEmpty() ? null : String.valueOf(list.get(0));
+        return value == null ? null : String.valueOf(value);
+    }
+
+    public List<String> all(String name) {
+        Object value = lookup(name);
+        if (value == null) return List.of();
+        if (!(value instanceof List<?> list)) return List.of(String.valueOf(value));
+
+        List<String> values = new ArrayList<>(list.size());
+        for (Object item : list) values.add(String.valueOf(item));
+        return values;
+    }
+
+    public boolean contains(String name) {
+        return lookup(name) != null;
+    }
+
+    /**
+     * Calls {@code action} for every header value, once per value of multi-valued headers.
+     */
+    public void forEach(BiConsumer<String, String> action) {
+        raw.forEach((name, value) -> {
+            if (name == null || value == null) return;
+            if (value instanceof List<?> list) {
+                for (Object item : list) {
+                    if (item != null) action.accept(name, String.valueOf(item));
+                }
+            } else {
+                action.accept(name, String.valueOf(value));
+            }
+        });
+    }
+
+    public Set<String> names() {
+        return Collections.unmodifiableSet(raw.keySet());
+    }
+
+    /**
+     * Copy with {@code name} set to {@code value}, replacing existing values regardless of case.
+     */
+    public PortalHeaders with(String name, String value) {
+        Map<String, Object> headers = new LinkedHashMap<>(raw);
+        headers.keySet().removeIf(existing -> existing != null && existing.equalsIgnoreCase(name));
+        headers.put(name, value);
+        return new PortalHeaders(headers);
+    }
+
+    /**
+     * Copy with the headers of {@code other} replacing those of the same name.
+     */
+    public PortalHeaders with(PortalHeaders other) {
+        if (other.raw.isEmpty()) return this;
+        Map<String, Object> headers = new LinkedHashMap<>(raw);
+        other.raw.forEach((name, value) -> {
+            headers.keySet().removeIf(existing -> existing != null && existing.equalsIgnoreCase(name));
+            headers.put(name, value);
+        });
+        return new PortalHeaders(headers);
+    }
+
+    /**
+     * The wrapped map, serialized as is.
+     */
+    public Map<String, ?> raw() {
+        return Collections.unmodifiableMap(raw);
+    }
+
+    private Object lookup(String name) {
+        Object value = raw.get(name);
+        if (value != null) return value;
+        for (Map.Entry<String, ?> header : raw.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) return header.getValue();
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return raw.toString();
+    }
+}
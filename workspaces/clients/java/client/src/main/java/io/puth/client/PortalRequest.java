@@ -0,0 +1,100 @@
+package io.puth.client;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Portal request as sent by the server, handed to {@link RemoteObject.AsyncPortalRequestHandler}s. Wraps the
+ * received map: headers are a {@link PortalHeaders} view of it and the base64 body ({@code data}) is decoded once, on
+ * first access.
+ */
+public final class PortalRequest {
+    private final Map<String, Object> raw;
+    private PortalHeaders headers;
+    private ByteBuffer body;
+
+    private PortalRequest(Map<String, Object> raw) {
+        this.raw = raw;
+    }
+
+    public static PortalRequest of(Map<String, Object> request) {
+        return new PortalRequest(request);
+    }
+
+    public String psuri() {
+        return string("psuri");
+    }
+
+    public String method() {
+        Object method = raw.get("method");
+        return method == null ? "GET" : String.valueOf(method);
+    }
+
+    /**
+     * Path (including the query) relative to the application.
+     */
+    public String path() {
+        Object path = raw.get("path");
+        return path == null ? "/" : String.valueOf(path);
+    }
+
+    public String url() {
+        return string("url");
+    }
+
+    public PortalHeaders headers() {
+        if (headers == null) {
+            headers = PortalHeaders.from(raw.get("headers"));
+        }
+        return headers;
+    }
+
+    /**
+     * The request body, empty if there is none. Every call returns a new buffer over the same bytes, which must not be
+     * modified.
+     */
+    public ByteBuffer body() {
+        if (body == null) {
+            Object data = raw.get("data") != null ? raw.get("data") : raw.get("body");
+            if (data instanceof byte[] bytes) {
+                body = ByteBuffer.wrap(bytes);
+            } else if (data == null || String.valueOf(data).isEmpty()) {
+                body = ByteBuffer.allocate(0);
+            } else {
+                body = ByteBuffer.wrap(Base64.getDecoder().decode(String.valueOf(data)));
+            }
+        }
+        return body.duplicate();
+    }
+
+    /**
+     * Copy with other headers, e.g. to make a conditional request.
+     */
+    public PortalRequest withHeaders(PortalHeaders headers) {
+        Map<String, Object> copy = new HashMap<>(raw);
+        copy.put("headers", headers.raw());
+        PortalRequest request = new PortalRequest(copy);
+        request.headers = headers;
+        request.body = body;
+        return request;
+    }
+
+    /**
+     * The map as received, as passed to {@link RemoteObject.PortalRequestHandler}s.
+     */
+    public Map<String, Object> raw() {
+        return raw;
+    }
+
+    private String string(String key) {
+        Object value = raw.get(key);
+        return value == null ? null : String.valueOf(value);
+    }
+
+    @Override
+    public String toString() {
+        return method() + " " + path();
+    }
+}
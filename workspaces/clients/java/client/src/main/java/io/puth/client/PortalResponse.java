@@ -0,0 +1,36 @@
+package io.puth.client;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Response to a portal request, returned by an {@link RemoteObject.AsyncPortalRequestHandler}. Headers are passed
+ * through as given and the body is sent to the server as is over the binary portal channel, without being copied.
+ */
+public record PortalResponse(int status, PortalHeaders headers, ByteBuffer body) {
+    public PortalResponse {
+        headers = headers == null ? PortalHeaders.of(Map.of()) : headers;
+        body = body == null ? ByteBuffer.allocate(0) : body;
+    }
+
+    public static PortalResponse of(int status, Map<String, ?> headers, byte[] body) {
+        return new PortalResponse(status, PortalHeaders.of(headers), body == null ? null : ByteBuffer.wrap(body));
+    }
+
+    public static PortalResponse of(int status, Map<String, ?> headers, ByteBuffer body) {
+        return new PortalResponse(status, PortalHeaders.of(headers), body);
+    }
+
+    /**
+     * The map form {@link RemoteObject.PortalRequestHandler}s return, with the headers and body as they are.
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("type", "PortalResponse");
+        response.put("status", status);
+        response.put("headers", headers.raw());
+        response.put("body", body.duplicate());
+        return response;
+    }
+}
@@ -2,16 +2,31 @@ package io.puth.client;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.puth.client.jfr.DecodeResponseEvent;
+import io.puth.client.jfr.PortalRequestEvent;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
-import java.net.URI;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
 import java.rmi.Remote;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 public class RemoteObject {
@@ -22,6 +37,13 @@ public class RemoteObject {
     protected String type;
     protected String represents;
 
+    /**
+     * Calls recorded while this object is used as a batch recorder, null otherwise.
+     */
+    private List<Packets.BatchedCall> batched;
+
+    private Packets.Reference reference;
+
     protected static final ObjectMapper objectMapper = new ObjectMapper();
     protected static final Logger logger = Logger.getLogger(RemoteObject.class.getName());
 
@@ -32,6 +54,23 @@ public class RemoteObject {
         Map<String, Object> handlePortalRequest(Map<String, Object> request);
     }
 
+    /**
+     * Portal request handler that does not block the calling thread, e.g. for reactive applications or slow upstreams.
+     * The response is sent to the server once the stage completes, without holding the test thread (async calls) or a
+     * portal dispatcher thread.
+     */
+    public interface AsyncPortalRequestHandler {
+        CompletionStage<PortalResponse> handlePortalRequestAsync(PortalRequest request);
+
+        /**
+         * Typed handler that blocks while handling a request (e.g. MockMvc). The client runs it on the thread waiting
+         * for the response, or on the portal dispatcher's pool for requests handled ahead of time.
+         */
+        static AsyncPortalRequestHandler blocking(Function<PortalRequest, PortalResponse> handler) {
+            return new BlockingPortalRequestHandler(handler);
+        }
+    }
+
     public RemoteObject(String id, String type, String represents, RemoteObject parent, Context context) {
         this.id = id;
         this.type = type;
@@ -45,101 +84,402 @@ public class RemoteObject {
     }
 
     protected Object callFunc(String function, Object[] parameters) {
+        return this.callFunc(function, parameters, Object.class);
+    }
+
+    /**
+     * @param returnType the type the generated caller casts the result to. Only calls returning this object's own type
+     *                   (fluent calls) can be batched.
+     */
+    protected Object callFunc(String function, Object[] parameters, Class<?> returnType) {
+        Object[] serializedParameters = serializeParameters(parameters);
+        if (batched != null) {
+            return queue(function, returnType, serializedParameters);
+        }
+
+        CallMetrics metrics = CallMetrics.begin(context, CallEvent.Kind.CALL, function, represents);
         try {
-            List<Object> serializedParameters = new ArrayList<>();
-            for (Object param : parameters) {
-                if (param == null) continue;
-                if (param instanceof RemoteObject) {
-                    serializedParameters.add(((RemoteObject) param).serialize());
-                } else {
-                    serializedParameters.add(param);
+            Transport.Response response = exchange("/context/call", callPacket(function, serializedParameters));
+
+            Object result = handleResponse(response, new Object[]{function, parameters}, (body, args) -> {
+                throw new Exception("[Server] " + body.get("message"));
+            });
+            CallMetrics.finish(metrics, null);
+            return result;
+        } catch (Exception e) {
+            RuntimeException error = new RuntimeException("Error in callFunction: " + e.getMessage(), e);
+            CallMetrics.finish(metrics, error);
+            throw error;
+        } catch (Error e) {
+            CallMetrics.finish(metrics, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #callFunc(String, Object[])}. The request and any portal requests the call
+     * triggers are sent with {@link Transport#sendAsync}, so no thread waits for the server while the call runs.
+     */
+    protected CompletableFuture<Object> callFuncAsync(String function, Object[] parameters) {
+        try {
+            Packets.Call packet = callPacket(function, serializeParameters(parameters));
+            CallMetrics metrics = CallMetrics.create(context, CallEvent.Kind.CALL, function, represents);
+
+            CompletableFuture<Object> result = sendAsync(Transport.Request.json("PATCH", "/context/call", Packets.writer.writeValueAsBytes(packet)), metrics)
+                    .thenCompose(response -> handleResponseAsync(response, new Object[]{function, parameters}, (body, args) -> {
+                        throw new Exception("[Server] " + body.get("message"));
+                    }, metrics));
+            if (metrics != null) {
+                result.whenComplete((value, error) -> CallMetrics.finish(metrics, error instanceof CompletionException ? error.getCause() : error));
+            }
+            return result;
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new RuntimeException("Error in callFunction: " + e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Calls a function returning binary data and streams the response body into {@code target} without buffering it
+     * on the heap. File channels are filled with {@link FileChannel#transferFrom}. Returns the number of bytes written.
+     */
+    protected long callFuncTo(String function, Object[] parameters, WritableByteChannel target) {
+        try (ReadableByteChannel source = Channels.newChannel(callFuncStream(function, parameters))) {
+            if (target instanceof FileChannel file) {
+                long position = file.position();
+                long written = file.transferFrom(source, position, Long.MAX_VALUE);
+                file.position(position + written);
+                return written;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+            long written = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    written += target.write(buffer);
                 }
+                buffer.clear();
             }
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream result of " + function, e);
+        }
+    }
 
-            Map<String, Object> packet = new HashMap<>();
-            packet.put("context", context.serialize());
-            packet.put("type", this.type);
-            packet.put("id", this.id);
-            packet.put("function", function);
-            packet.put("parameters", serializedParameters);
+    /**
+     * Like {@link #callFuncTo(String, Object[], WritableByteChannel)}, creating or truncating the file at {@code target}.
+     */
+    protected long callFuncTo(String function, Object[] parameters, Path target) {
+        try (FileChannel file = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return callFuncTo(function, parameters, file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + target, e);
+        }
+    }
 
-            if (context.isDebug()) {
-                log("call: " + function);
-                log("with: " + objectMapper.writeValueAsString(serializedParameters));
+    /**
+     * Calls a function returning binary data and reads the response body into a direct (off-heap) buffer, flipped and
+     * ready to read.
+     */
+    protected ByteBuffer callFuncBuffer(String function, Object[] parameters) {
+        try (ReadableByteChannel source = Channels.newChannel(callFuncStream(function, parameters))) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+            while (source.read(buffer) != -1) {
+                if (!buffer.hasRemaining()) {
+                    buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2).put(buffer.flip());
+                }
             }
+            return buffer.flip();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read result of " + function, e);
+        }
+    }
+
+    private InputStream callFuncStream(String function, Object[] parameters) {
+        Object result = callFunc(function, parameters);
+        if (result instanceof InputStream stream) {
+            return stream;
+        }
+        throw new IllegalStateException("Function '" + function + "' did not return binary data, got: " + result);
+    }
+
+    private Packets.Call callPacket(String function, Object[] serializedParameters) throws Exception {
+        if (context.isDebug()) {
+            log("call: " + function);
+            log("with: " + objectMapper.writeValueAsString(serializedParameters));
+        }
 
-            HttpRequest request = HttpRequest.newBuilder()
-                    .version(HttpClient.Version.HTTP_1_1)
-                    .uri(new URI(context.getBaseUrl() + "/context/call"))
-                    .header("Content-Type", "application/json")
-                    .method("PATCH", HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(packet)))
-                    .build();
+        return new Packets.Call(context.serializedFragment(), this.type, this.id, function, serializedParameters);
+    }
 
-            HttpResponse<InputStream> response = context.getClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+    /**
+     * Drops null parameters and replaces remote objects by their reference. Returns the given array if there is
+     * nothing to replace.
+     */
+    private static Object[] serializeParameters(Object[] parameters) {
+        int count = 0;
+        boolean replace = false;
+        for (Object param : parameters) {
+            if (param == null) continue;
+            count++;
+            replace |= param instanceof RemoteObject;
+        }
+        if (count == parameters.length && !replace) {
+            return parameters;
+        }
 
-            return handleResponse(response, new Object[]{function, parameters}, (body, args) -> {
-                throw new Exception("[Server] " + body.get("message"));
-            });
-        } catch (Exception e) {
-            throw new RuntimeException("Error in callFunction: " + e.getMessage(), e);
+        Object[] serializedParameters = new Object[count];
+        int i = 0;
+        for (Object param : parameters) {
+            if (param == null) continue;
+            serializedParameters[i++] = param instanceof RemoteObject remoteObject ? remoteObject.reference() : param;
         }
+        return serializedParameters;
     }
 
-    protected Object getProperty(String property) {
+    /**
+     * Records all calls the consumer makes on the recorder and sends them to the server in a single request. The
+     * recorder must represent the same remote object as this. Only fluent calls (functions returning the remote
+     * object itself) can be batched. If a call fails, the remaining calls are skipped and a {@link BatchException}
+     * holding the index of the failed call is thrown.
+     */
+    protected <T extends RemoteObject> T batch(T recorder, Consumer<T> calls) {
+        RemoteObject target = recorder;
+        List<Packets.BatchedCall> queued = new ArrayList<>();
+        target.batched = queued;
         try {
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("context", context.serialize());
-            requestBody.put("type", this.type);
-            requestBody.put("id", this.id);
-            requestBody.put("property", property);
+            calls.accept(recorder);
+        } finally {
+            target.batched = null;
+        }
+        callBatch(queued);
 
-            HttpRequest request = HttpRequest.newBuilder()
-                    .version(HttpClient.Version.HTTP_1_1)
-                    .uri(new URI(context.getBaseUrl() + "/context/get"))
-                    .header("Content-Type", "application/json")
-                    .method("PATCH", HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(requestBody)))
-                    .build();
+        @SuppressWarnings("unchecked") T self = (T) this;
+        return self;
+    }
+
+    private Object queue(String function, Class<?> returnType, Object[] serializedParameters) {
+        // the generated caller casts the result, so only functions returning this object can be answered locally
+        if (!RemoteObject.class.isAssignableFrom(returnType) || !returnType.isInstance(this)) {
+            throw new IllegalStateException("Function '" + function + "' can not be batched because it does not return " + getClass().getSimpleName() + ".");
+        }
 
-            HttpResponse<InputStream> response = context.getClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+        batched.add(new Packets.BatchedCall(this.type, this.id, function, serializedParameters));
+
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void callBatch(List<Packets.BatchedCall> calls) {
+        int offset = 0;
+        while (offset < calls.size()) {
+            List<Packets.BatchedCall> pending = calls.subList(offset, calls.size());
+            Map<String, Object> body;
+            try {
+                log("batch: " + pending.size() + " calls");
+
+                Transport.Response response = exchange("/context/call/batch", new Packets.Batch(context.serializedFragment(), pending));
+                if (response.status() != 200) {
+                    throw new Exception("Server returned status code: " + response.status());
+                }
+                body = objectMapper.readValue(response.body(), new TypeReference<>() {});
+            } catch (Exception e) {
+                throw new RuntimeException("Error in callBatch: " + e.getMessage(), e);
+            }
+
+            if (context.isDebug()) {
+                log("return: " + body);
+            }
+
+            int index = ((Number) body.get("index")).intValue();
+            if (index >= pending.size()) {
+                return;
+            }
+
+            // the server stopped at a call that did not return itself, resolve it like a single call and continue
+            Packets.BatchedCall call = pending.get(index);
+            String function = call.function();
+            try {
+                parseGeneric((Map<String, Object>) body.get("result"), new Object[]{function, call.parameters()}, (error, args) -> {
+                    throw new Exception("[Server] " + error.get("message"));
+                });
+            } catch (Throwable t) {
+                throw new BatchException(offset + index, function, t);
+            }
+
+            offset += index + 1;
+        }
+    }
+
+    protected Object getProperty(String property) {
+        CallMetrics metrics = CallMetrics.begin(context, CallEvent.Kind.GET, property, represents);
+        try {
+            Transport.Response response = exchange("/context/get", new Packets.Get(context.serializedFragment(), this.type, this.id, property));
 
             log("get: " + property);
 
-            return handleResponse(response, new Object[]{property}, (body, args) -> {
+            Object result = handleResponse(response, new Object[]{property}, (body, args) -> {
                 throw new Exception("Undefined property: '" + args[0] + "' (" + this.getClass().getSimpleName() + "::" + args[0] + ")");
             });
+            CallMetrics.finish(metrics, null);
+            return result;
         } catch (Exception e) {
-            throw new RuntimeException("Error in getProperty: " + e.getMessage(), e);
+            RuntimeException error = new RuntimeException("Error in getProperty: " + e.getMessage(), e);
+            CallMetrics.finish(metrics, error);
+            throw error;
+        } catch (Error e) {
+            CallMetrics.finish(metrics, e);
+            throw e;
         }
     }
 
-    protected Object handleResponse(HttpResponse<?> response, Object[] arguments, ThrowingBiFunction<Map<String, Object>, Object[], Object> onError) {
+    /**
+     * Sends the packet as JSON to the given server path using the context's transport.
+     */
+    protected Transport.Response exchange(String path, Object packet) throws Exception {
+        return exchange(Transport.Request.json("PATCH", path, Packets.writer.writeValueAsBytes(packet)));
+    }
+
+    protected Transport.Response exchange(Transport.Request request) throws Exception {
+        Transport.Response response = context.getTransport().send(request);
+
+        CallMetrics metrics = CallMetrics.current();
+        return metrics == null ? response : metrics.record(request, response);
+    }
+
+    private CompletableFuture<Transport.Response> sendAsync(Transport.Request request, CallMetrics metrics) {
+        CompletableFuture<Transport.Response> response = context.getTransport().sendAsync(request);
+        return metrics == null ? response : response.thenApply(r -> metrics.record(request, r));
+    }
+
+    protected Object handleResponse(Transport.Response response, Object[] arguments, ThrowingBiFunction<Map<String, Object>, Object[], Object> onError) {
         try {
-            if (response.statusCode() != 200) {
-                throw new Exception("Server returned status code: " + response.statusCode());
+            if (response.status() != 200) {
+                throw new Exception("Server returned status code: " + response.status());
             }
 
             // Check if binary response
-            String contentType = response.headers().firstValue("Content-Type").orElse("");
-            if (contentType.contains("application/octet-stream")) {
+            if (response.isBinary()) {
                 return response.body();
             }
 
-            InputStream bodyStream = (InputStream) response.body();
-            Map<String, Object> body = objectMapper.readValue(bodyStream, new TypeReference<>() {});
+            Object decoded = decode(response, arguments);
+            if (decoded instanceof GenericDecoder.Fallback fallback) {
+                return parseGeneric(fallback.generic(), arguments, onError);
+            }
 
-            if (context.isDebug()) {
-                log("return: " + body);
+            return decoded;
+        } catch (Exception e) {
+            throw new RuntimeException("Error in handleResponse: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #handleResponse}. Portal requests are answered asynchronously and the future
+     * completes with the result of the call once the server sends it.
+     */
+    protected CompletableFuture<Object> handleResponseAsync(Transport.Response response, Object[] arguments, ThrowingBiFunction<Map<String, Object>, Object[], Object> onError) {
+        return handleResponseAsync(response, arguments, onError, null);
+    }
+
+    private CompletableFuture<Object> handleResponseAsync(Transport.Response response, Object[] arguments, ThrowingBiFunction<Map<String, Object>, Object[], Object> onError, CallMetrics metrics) {
+        try {
+            if (response.status() != 200) {
+                throw new Exception("Server returned status code: " + response.status());
             }
-            if (body.isEmpty()) {
-                return this;
+            if (response.isBinary()) {
+                return CompletableFuture.completedFuture(response.body());
             }
 
-            return parseGeneric(body, arguments, onError);
+            Object decoded = decode(response, arguments);
+            if (!(decoded instanceof GenericDecoder.Fallback fallback)) {
+                return CompletableFuture.completedFuture(decoded);
+            }
+            Map<String, Object> body = fallback.generic();
+            if (!"ServerRequest".equals(body.get("type"))) {
+                return CompletableFuture.completedFuture(parseGeneric(body, arguments, onError));
+            }
+
+            log("server-request: handling");
+            CompletableFuture<Transport.Request> payload;
+            try {
+                payload = portalResponsePayloadAsync(body);
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(onError.apply(portalError(t), arguments));
+            }
+
+            return payload
+                    .handle((portalPayload, t) -> {
+                        try {
+                            if (t != null) {
+                                Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                                return CompletableFuture.completedFuture(onError.apply(portalError(cause), arguments));
+                            }
+                            return sendAsync(portalPayload, metrics)
+                                    .thenCompose(portalRes -> handleResponseAsync(portalRes, arguments, onError, metrics));
+                        } catch (Exception e) {
+                            return CompletableFuture.<Object>failedFuture(e);
+                        }
+                    })
+                    .thenCompose(result -> result);
         } catch (Exception e) {
-            throw new RuntimeException("Error in handleResponse: " + e.getMessage(), e);
+            return CompletableFuture.failedFuture(new RuntimeException("Error in handleResponse: " + e.getMessage(), e));
         }
     }
 
+    /**
+     * {@link #decode(Transport.Response)}, recorded as a {@link DecodeResponseEvent} when that JFR event is enabled.
+     */
+    private Object decode(Transport.Response response, Object[] arguments) throws Exception {
+        DecodeResponseEvent event = new DecodeResponseEvent();
+        if (!event.isEnabled()) {
+            return decode(response);
+        }
+
+        event.begin();
+        CountingInputStream body = new CountingInputStream(response.body());
+        Object decoded = decode(new Transport.Response(response.status(), response.contentType(), body, response.serverTime()));
+        event.end();
+        if (event.shouldCommit()) {
+            event.function = arguments.length > 0 ? String.valueOf(arguments[0]) : null;
+            event.contextId = context.getId();
+            event.bytes = body.getCount();
+            event.commit();
+        }
+        return decoded;
+    }
+
+    /**
+     * Decodes a JSON response with {@link GenericDecoder}. In debug mode the body is read as a map instead, so it can
+     * be logged as a whole.
+     */
+    private Object decode(Transport.Response response) throws Exception {
+        if (context.isDebug()) {
+            Map<String, Object> body = readGeneric(response);
+            return body.isEmpty() ? self() : new GenericDecoder.Fallback(body);
+        }
+
+        return GenericDecoder.decode(objectMapper.createParser(response.body()), this);
+    }
+
+    private Map<String, Object> readGeneric(Transport.Response response) throws Exception {
+        InputStream bodyStream = response.body();
+        Map<String, Object> body = objectMapper.readValue(bodyStream, new TypeReference<>() {});
+
+        if (context.isDebug()) {
+            log("return: " + body);
+        }
+
+        return body;
+    }
+
+    /**
+     * The object returned for calls that resolve to the remote object itself.
+     */
+    protected RemoteObject self() {
+        return this;
+    }
+
     @SuppressWarnings("unchecked")
     protected Object parseGeneric(Map<String, Object> generic, Object[] arguments, ThrowingBiFunction<Map<String, Object>, Object[], Object> onError) throws Exception {
         Object typeObj = generic.get("type");
@@ -170,16 +510,24 @@ public class RemoteObject {
             case "GenericObject":
                 return resolveRemoteObject(generic);
             case "GenericObjects": {
-                List<Map<String, Object>> values = (List<Map<String, Object>>) generic.get("value");
-                if (values.isEmpty()) {
-                    return new RemoteObject[]{};
-                }
-                RemoteObject[] rtn = typedArray(resolveRemoteObject(values.get(0)).getClass(), values.size());
-                for (int i = 0; i < values.size(); i++) {
-                    rtn[i] = resolveRemoteObject(values.get(i));
+                List<Object> values = (List<Object>) generic.get("value");
+                List<RemoteObject> objects = new ArrayList<>(values.size());
+                Class<? extends RemoteObject> elementType = null;
+                for (Object value : values) {
+                    // same as GenericDecoder: nulls are kept, other non-objects are skipped
+                    if (value == null) {
+                        objects.add(null);
+                    } else if (value instanceof Map<?, ?> object) {
+                        RemoteObject resolved = resolveRemoteObject((Map<String, Object>) object);
+                        if (elementType == null) elementType = resolved.getClass();
+                        objects.add(resolved);
+                    }
                 }
 
-                return rtn;
+                if (elementType == null) {
+                    return new RemoteObject[objects.size()];
+                }
+                return objects.toArray(typedArray(elementType, objects.size()));
             }
             case "GenericArray": {
                 List<Map<String, Object>> values = (List<Map<String, Object>>) generic.get("value");
@@ -195,7 +543,7 @@ public class RemoteObject {
             case "GenericSelf":
             case "GenericUndefined":
             case "Dialog":
-                return this;
+                return self();
             case "PuthAssertion":
                 return generic;
             default:
@@ -257,104 +605,161 @@ public class RemoteObject {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private Object handlePortalRequestResponse(Map<String, Object> generic, Object[] arguments, ThrowingBiFunction<Map<String, Object>, Object[], Object> onError) throws Exception {
         log("server-request: handling");
 
-        Map<String, Object> responseMap = new HashMap<>();
-        responseMap.put("type", "PortalResponse");
+        try {
+            // Send response back to server
+            Transport.Response portalRes = exchange(awaitPortalResponsePayload(generic));
+
+            return handleResponse(portalRes, arguments, onError);
+        } catch (Throwable t) {
+            // Surface any error via onError path
+            return onError.apply(portalError(t), arguments);
+        }
+    }
+
+    /**
+     * Lets the context's portal request handler answer the portal request and wraps its response for
+     * {@code /portal/response}. Requests the server queued behind it ({@code pending}) are started as well if the
+     * handler does not block or the context has a pool to run it on, see {@link Context#setPortalConcurrency(int)}.
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Transport.Request> portalResponsePayloadAsync(Map<String, Object> generic) {
+        // Extract incoming portal request
+        Map<String, Object> value = (Map<String, Object>) generic.get("value");
+        Map<String, Object> request = value != null ? (Map<String, Object>) value.get("request") : null;
+
+        if (context.getPortalRequestHandler() == null && context.getAsyncPortalRequestHandler() == null) {
+            throw new RuntimeException("Portal requests not supported.");
+        }
+
+        if (request == null) {
+            return CompletableFuture.completedFuture(portalResponsePayload(Map.of("type", "PortalResponse")));
+        }
+
+        PortalDispatcher dispatcher = context.getPortalDispatcher();
+        AsyncPortalRequestHandler async = context.getAsyncPortalRequestHandler();
+        boolean nonBlocking = async != null && !(async instanceof BlockingPortalRequestHandler);
+        List<Map<String, Object>> pending = (dispatcher.isPooled() || nonBlocking) && value.get("pending") instanceof List<?> list
+                ? (List<Map<String, Object>>) list
+                : List.of();
+        return dispatcher.dispatch(request, pending, this::handlePortalRequest).thenApply(this::portalResponsePayload);
+    }
 
+    private Transport.Request awaitPortalResponsePayload(Map<String, Object> generic) throws Throwable {
         try {
-            // Extract incoming portal request
-            Map<String, Object> value = (Map<String, Object>) generic.get("value");
-            Map<String, Object> request = value != null ? (Map<String, Object>) value.get("request") : null;
+            return portalResponsePayloadAsync(generic).join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
 
-            PortalRequestHandler handler = null;
-            // If Context provides a handler, use it
+    /**
+     * Starts handling a portal request with the context's async handler, or its blocking handler on {@code executor}.
+     */
+    private CompletableFuture<Map<String, Object>> handlePortalRequest(Map<String, Object> request, Executor executor) {
+        PortalRequestEvent event = new PortalRequestEvent();
+        Instant start = context.hasCallListeners() ? Instant.now() : null;
+        long startNanos = System.nanoTime();
+        event.begin();
+
+        CompletableFuture<Map<String, Object>> response;
+        AsyncPortalRequestHandler async = context.getAsyncPortalRequestHandler();
+        if (async instanceof BlockingPortalRequestHandler blocking) {
+            response = blocking.handle(PortalRequest.of(request), executor).thenApply(RemoteObject::portalResponseMap);
+        } else if (async != null) {
             try {
-                handler = context.getPortalRequestHandler();
-            } catch (Throwable ignored) {
-                throw new RuntimeException("Portal requests not supported.");
-            }
-            if (handler == null) {
-                throw new RuntimeException("Portal requests not supported.");
+                response = async.handlePortalRequestAsync(PortalRequest.of(request)).toCompletableFuture().thenApply(RemoteObject::portalResponseMap);
+            } catch (Throwable t) {
+                response = CompletableFuture.failedFuture(t);
             }
+        } else {
+            PortalRequestHandler handler = context.getPortalRequestHandler();
+            response = CompletableFuture.supplyAsync(() -> handler.handlePortalRequest(request), executor);
+        }
 
-            if (request != null) {
-                responseMap = handler.handlePortalRequest(request);
-                if (responseMap == null) responseMap = new HashMap<>();
-            }
+        return response.thenApply(responseMap -> completePortalRequest(request, responseMap, event, start, startNanos));
+    }
 
-            // Always include psuri from request for routing
-            if (request != null && request.get("psuri") != null) {
-                responseMap.put("psuri", request.get("psuri"));
-            }
+    private Map<String, Object> completePortalRequest(Map<String, Object> request, Map<String, Object> responseMap, PortalRequestEvent event, Instant start, long startNanos) {
+        if (responseMap == null) responseMap = new HashMap<>();
+        event.end();
+
+        int status = responseMap.get("status") instanceof Number number ? number.intValue() : 0;
+        if (event.shouldCommit()) {
+            event.contextId = context.getId();
+            event.psuri = String.valueOf(request.get("psuri"));
+            event.method = String.valueOf(request.get("method"));
+            event.path = String.valueOf(request.get("path"));
+            event.status = status;
+            Object body = responseMap.get("body");
+            event.responseBytes = body instanceof ByteBuffer buffer ? buffer.remaining() : body instanceof byte[] bytes ? bytes.length : body instanceof String string ? string.length() : 0;
+            event.commit();
+        }
+        if (start != null) {
+            CallMetrics.portalRequest(context, new PortalEvent(
+                    context.getId(),
+                    String.valueOf(request.get("psuri")),
+                    String.valueOf(request.get("method")),
+                    String.valueOf(request.get("path")),
+                    status,
+                    start,
+                    Duration.ofNanos(System.nanoTime() - startNanos)
+            ));
+        }
 
-            if (context.isDebug()) {
-                Map<String, Object> debug = new HashMap<>();
-                debug.put("status", responseMap.get("status"));
-                debug.put("headers", responseMap.get("headers"));
-                Object body = responseMap.get("body");
-                String bodyPreview = body == null ? null : String.valueOf(body);
-                if (bodyPreview != null && bodyPreview.length() > 500) bodyPreview = bodyPreview.substring(0, 500);
-                debug.put("body", bodyPreview);
-                log("server-request: response: " + debug);
-            }
+        // Always include psuri from request for routing
+        if (request.get("psuri") != null) {
+            responseMap.put("psuri", request.get("psuri"));
+        }
+        return responseMap;
+    }
 
-            // Send response back to server
-            Map<String, Object> payload = new HashMap<>();
-            payload.put("context", context.serialize());
-            payload.put("response", responseMap);
+    /**
+     * Byte array and buffer bodies are sent as is over the binary portal channel, string bodies (base64) as JSON.
+     */
+    private Transport.Request portalResponsePayload(Map<String, Object> responseMap) {
+        if (context.isDebug()) {
+            Map<String, Object> debug = new HashMap<>();
+            debug.put("status", responseMap.get("status"));
+            debug.put("headers", responseMap.get("headers"));
+            Object body = responseMap.get("body");
+            String bodyPreview = body instanceof ByteBuffer buffer ? buffer.remaining() + " bytes"
+                    : body instanceof byte[] bytes ? bytes.length + " bytes"
+                    : body == null ? null : String.valueOf(body);
+            if (bodyPreview != null && bodyPreview.length() > 500) bodyPreview = bodyPreview.substring(0, 500);
+            debug.put("body", bodyPreview);
+            log("server-request: response: " + debug);
+        }
 
-            HttpRequest portalReq = HttpRequest.newBuilder()
-                    .version(HttpClient.Version.HTTP_1_1)
-                    .uri(new URI(context.getBaseUrl() + "/portal/response"))
-                    .header("Content-Type", "application/json")
-                    .method("PATCH", HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(payload)))
-                    .build();
+        try {
+            return Packets.portalResponse(context.serializedFragment(), responseMap);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            HttpResponse<InputStream> portalRes = context.getClient().send(portalReq, HttpResponse.BodyHandlers.ofInputStream());
+    private static Map<String, Object> portalResponseMap(PortalResponse response) {
+        return response == null ? new HashMap<>() : response.toMap();
+    }
 
-            return handleResponse(portalRes, arguments, onError);
-        } catch (Throwable t) {
-            // Surface any error via onError path
-            Map<String, Object> err = new HashMap<>();
-            err.put("type", "error");
-            err.put("message", t.getMessage());
-            return onError.apply(err, arguments);
-        }
+    private static Map<String, Object> portalError(Throwable t) {
+        Map<String, Object> err = new HashMap<>();
+        err.put("type", "error");
+        err.put("message", t.getMessage());
+        return err;
     }
 
     /**
      * Resolves and creates the appropriate RemoteObject subclass based on the 'represents' value.
      */
     private RemoteObject resolveRemoteObject(Map<String, Object> generic) {
-        String id = String.valueOf(generic.get("id"));
-        String type = String.valueOf(generic.get("type"));
-        String represents = String.valueOf(generic.get("represents"));
-
-        try {
-            String packageName = "io.puth.client.remote";
-            String className = packageName + "." + represents;
-            log("Classpath " + className);
-
-            Class<?> clazz = Class.forName(className);
-            if (!RemoteObject.class.isAssignableFrom(clazz)) {
-                throw new RuntimeException("Class " + className + " does not extend RemoteObject");
-            }
+        return resolveRemoteObject(String.valueOf(generic.get("id")), String.valueOf(generic.get("type")), String.valueOf(generic.get("represents")));
+    }
 
-            Constructor<?> constructor = clazz.getConstructor(String.class, String.class, String.class, RemoteObject.class, Context.class);
-            return (RemoteObject) constructor.newInstance(id, type, represents, this, this.context);
-        } catch (ClassNotFoundException e) {
-            logger.warning("Class not found for represents: " + represents + ". Falling back to RemoteObject.");
-            return new RemoteObject(id, type, represents, this, context);
-        } catch (NoSuchMethodException e) {
-            logger.warning("No suitable constructor found for class: " + represents + ". Falling back to RemoteObject.");
-            return new RemoteObject(id, type, represents, this, context);
-        } catch (Exception e) {
-            logger.warning("Error instantiating class for represents: " + represents + ". Falling back to RemoteObject. Error: " + e.getMessage());
-            return new RemoteObject(id, type, represents, this, context);
-        }
+    RemoteObject resolveRemoteObject(String id, String type, String represents) {
+        return RemoteObjects.create(id, type, represents, this, this.context);
     }
 
     public Object getPropertyValue(String property) {
@@ -388,6 +793,16 @@ public class RemoteObject {
         return context.getBaseUrl();
     }
 
+    /**
+     * This object as call parameter, cached as id, type and represents do not change.
+     */
+    Packets.Reference reference() {
+        if (reference == null) {
+            reference = new Packets.Reference(getId(), getType(), getRepresents());
+        }
+        return reference;
+    }
+
     public Map<String, Object> serialize() {
         Map<String, Object> data = new HashMap<>();
         data.put("id", getId());
@@ -0,0 +1,70 @@
+package io.puth.client;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Maps the {@code represents} value of returned objects to the class creating them. By default the class
+ * {@code io.puth.client.remote.<represents>} is looked up once and its constructor is called through a method handle
+ * afterwards. Unknown types are cached as well and resolve to a plain {@link RemoteObject}, the warning is logged only
+ * the first time. Custom classes can be added with {@link #register}.
+ */
+public final class RemoteObjects {
+    @FunctionalInterface
+    public interface Factory {
+        RemoteObject create(String id, String type, String represents, RemoteObject parent, Context context);
+    }
+
+    private static final String PACKAGE = "io.puth.client.remote";
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(void.class, String.class, String.class, String.class, RemoteObject.class, Context.class);
+    private static final Factory FALLBACK = RemoteObject::new;
+
+    private static final Map<String, Factory> factories = new ConcurrentHashMap<>();
+
+    private static final Logger logger = Logger.getLogger(RemoteObjects.class.getName());
+
+    private RemoteObjects() {
+    }
+
+    public static void register(String represents, Factory factory) {
+        factories.put(represents, factory);
+    }
+
+    public static RemoteObject create(String id, String type, String represents, RemoteObject parent, Context context) {
+        Factory factory = represents == null ? FALLBACK : factories.computeIfAbsent(represents, RemoteObjects::lookup);
+        return factory.create(id, type, represents, parent, context);
+    }
+
+    private static Factory lookup(String represents) {
+        String className = PACKAGE + "." + represents;
+        try {
+            Class<?> clazz = Class.forName(className);
+            if (!RemoteObject.class.isAssignableFrom(clazz)) {
+                logger.warning("Class " + className + " does not extend RemoteObject. Falling back to RemoteObject.");
+                return FALLBACK;
+            }
+
+            MethodHandle constructor = MethodHandles.publicLookup().findConstructor(clazz, CONSTRUCTOR)
+                    .asType(CONSTRUCTOR.changeReturnType(RemoteObject.class));
+
+            return (id, type, r, parent, context) -> {
+                try {
+                    return (RemoteObject) constructor.invokeExact(id, type, r, parent, context);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new RuntimeException("Error instantiating class for represents: " + r + ": " + t.getMessage(), t);
+                }
+            };
+        } catch (ClassNotFoundException e) {
+            logger.warning("Class not found for represents: " + represents + ". Falling back to RemoteObject.");
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            logger.warning("No suitable constructor found for class: " + represents + ". Falling back to RemoteObject.");
+        }
+        return FALLBACK;
+    }
+}
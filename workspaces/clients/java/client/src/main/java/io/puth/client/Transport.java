@@ -0,0 +1,77 @@
+package io.puth.client;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Carries requests from a {@link Context} and its remote objects to the Puth server. The default implementation is
+ * {@link HttpTransport}, custom implementations (pooled, instrumented, in-process) can be passed to the
+ * {@link Context} constructor.
+ */
+public interface Transport {
+    String JSON = "application/json";
+    String BINARY = "application/octet-stream";
+
+    /**
+     * @param attachment sent right after {@code body}, so large binary payloads do not have to be copied into it, null
+     *                   if none
+     */
+    record Request(String method, String path, String contentType, byte[] body, ByteBuffer attachment) {
+        public Request(String method, String path, String contentType, byte[] body) {
+            this(method, path, contentType, body, null);
+        }
+
+        public static Request json(String method, String path, byte[] body) {
+            return new Request(method, path, JSON, body);
+        }
+
+        public static Request binary(String method, String path, byte[] body) {
+            return new Request(method, path, BINARY, body);
+        }
+
+        public static Request binary(String method, String path, byte[] body, ByteBuffer attachment) {
+            return new Request(method, path, BINARY, body, attachment);
+        }
+
+        public long size() {
+            return (body == null ? 0 : body.length) + (attachment == null ? 0 : attachment.remaining());
+        }
+
+        /**
+         * Body and attachment in one array, for transports that cannot send them separately.
+         */
+        public byte[] bytes() {
+            if (attachment == null || !attachment.hasRemaining()) return body;
+            byte[] bytes = new byte[(int) size()];
+            int length = body == null ? 0 : body.length;
+            if (length > 0) System.arraycopy(body, 0, bytes, 0, length);
+            attachment.duplicate().get(bytes, length, attachment.remaining());
+            return bytes;
+        }
+    }
+
+    /**
+     * @param serverTime time the server spent on the request (from its {@code Server-Timing} header), null if unknown
+     */
+    record Response(int status, String contentType, InputStream body, Duration serverTime) {
+        public Response(int status, String contentType, InputStream body) {
+            this(status, contentType, body, null);
+        }
+
+        public boolean isBinary() {
+            return contentType != null && contentType.contains(BINARY);
+        }
+    }
+
+    Response send(Request request) throws Exception;
+
+    CompletableFuture<Response> sendAsync(Request request);
+
+    /**
+     * Releases connections held by this transport. Called when the owning context is destroyed.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,53 @@
+package io.puth.client;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared executor for client work that should not occupy platform threads. Uses a virtual-thread-per-task executor
+ * when running on Java 21+ and a cached pool of daemon threads otherwise, so the client still runs on Java 17.
+ */
+public final class VirtualThreads {
+    private static final ExecutorService executor = createExecutor();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return lookupVirtualThreadPerTaskExecutor() != null;
+    }
+
+    public static ExecutorService executor() {
+        return executor;
+    }
+
+    private static ExecutorService createExecutor() {
+        MethodHandle factory = lookupVirtualThreadPerTaskExecutor();
+        if (factory != null) {
+            try {
+                return (ExecutorService) factory.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to create virtual thread executor: " + t.getMessage(), t);
+            }
+        }
+
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "puth-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static MethodHandle lookupVirtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package io.puth.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Sends context requests over one long-lived WebSocket connection ({@code /context/websocket}) instead of one HTTP
+ * request per call. Requests are multiplexed by a request id, so multiple remote objects can use the connection at
+ * the same time. Requests the socket does not carry (context creation and destruction) go through the fallback
+ * transport, as do all requests if the server does not accept the connection or once the socket is closed or broken.
+ */
+public class WebSocketTransport implements Transport, WebSocket.Listener {
+    private final HttpClient client;
+    private final Transport fallback;
+    private final Map<Integer, CompletableFuture<Response>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger requestIds = new AtomicInteger();
+    private final WebSocket webSocket;
+
+    private CompletableFuture<WebSocket> lastSend;
+    private volatile boolean broken = false;
+    private StringBuilder text = new StringBuilder();
+    private ByteArrayOutputStream binary = new ByteArrayOutputStream();
+
+    protected static final Logger logger = Logger.getLogger(WebSocketTransport.class.getName());
+
+    public WebSocketTransport(HttpClient client, String baseUrl) {
+        this(client, baseUrl, new HttpTransport(client, baseUrl));
+    }
+
+    public WebSocketTransport(HttpClient client, String baseUrl, Transport fallback) {
+        this.client = client;
+        this.fallback = fallback;
+        URI uri = URI.create(baseUrl.replaceFirst("^http", "ws") + "/context/websocket");
+        WebSocket connected;
+        try {
+            connected = client.newWebSocketBuilder().buildAsync(uri, this).join();
+        } catch (CompletionException e) {
+            // e.g. a server or proxy without WebSocket support
+            logger.warning("WebSocket connection to " + uri + " failed, using HTTP: " + e.getCause());
+            connected = null;
+            broken = true;
+        }
+        this.webSocket = connected;
+        this.lastSend = CompletableFuture.completedFuture(webSocket);
+    }
+
+    @Override
+    public Response send(Request request) throws Exception {
+        if (!isCarried(request) || isBroken()) {
+            return fallback.send(request);
+        }
+
+        try {
+            return sendAsync(request).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> sendAsync(Request request) {
+        // once the socket is broken, calls go over HTTP
+        if (!isCarried(request) || isBroken()) {
+            return fallback.sendAsync(request);
+        }
+
+        int rid = requestIds.incrementAndGet();
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        pending.put(rid, response);
+
+        String body = new String(request.bytes(), StandardCharsets.UTF_8);
+        String frame = "{\"rid\":" + rid + ",\"path\":\"" + request.path() + "\",\"body\":" + body + "}";
+        // java.net.http.WebSocket only allows one outstanding send
+        synchronized (this) {
+            // the next send is chained onto the recovered future, a request that was not sent goes over HTTP instead
+            CompletableFuture<WebSocket> send = lastSend
+                    .exceptionally(t -> webSocket)
+                    .thenCompose(ws -> ws.sendText(frame, true));
+            send.exceptionally(t -> {
+                broken = true;
+                CompletableFuture<Response> unsent = pending.remove(rid);
+                if (unsent != null) {
+                    fallback.sendAsync(request).whenComplete((r, e) -> {
+                        if (e != null) unsent.completeExceptionally(e);
+                        else unsent.complete(r);
+                    });
+                }
+                return null;
+            });
+            lastSend = send;
+        }
+
+        return response;
+    }
+
+    private boolean isBroken() {
+        return broken || webSocket.isOutputClosed();
+    }
+
+    private static boolean isCarried(Request request) {
+        return "PATCH".equals(request.method()) && JSON.equals(request.contentType());
+    }
+
+    @Override
+    public void close() {
+        if (webSocket != null) {
+            synchronized (this) {
+                lastSend = lastSend.exceptionally(t -> webSocket).thenCompose(ws -> ws.sendClose(WebSocket.NORMAL_CLOSURE, ""));
+            }
+        }
+        fallback.close();
+    }
+
+    public HttpClient getClient() {
+        return client;
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        text.append(data);
+        if (last) {
+            // "<rid> <status> <json>"
+            String message = text.toString();
+            text = new StringBuilder();
+
+            int ridEnd = message.indexOf(' ');
+            int statusEnd = message.indexOf(' ', ridEnd + 1);
+            int rid = Integer.parseInt(message, 0, ridEnd, 10);
+            int status = Integer.parseInt(message, ridEnd + 1, statusEnd, 10);
+            byte[] body = message.substring(statusEnd + 1).getBytes(StandardCharsets.UTF_8);
+
+            complete(rid, new Response(status, JSON, new ByteArrayInputStream(body)));
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+        byte[] chunk = new byte[data.remaining()];
+        data.get(chunk);
+        binary.writeBytes(chunk);
+        if (last) {
+            // uint32 rid followed by the payload
+            byte[] message = binary.toByteArray();
+            binary = new ByteArrayOutputStream();
+
+            int rid = ByteBuffer.wrap(message, 0, 4).getInt();
+            complete(rid, new Response(200, BINARY, new ByteArrayInputStream(message, 4, message.length - 4)));
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        broken = true;
+        failAll(new IllegalStateException("WebSocket closed: " + statusCode + " " + reason));
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        broken = true;
+        failAll(error);
+    }
+
+    private void complete(int rid, Response response) {
+        CompletableFuture<Response> future = pending.remove(rid);
+        if (future == null) {
+            logger.warning("Received response for unknown request id: " + rid);
+            return;
+        }
+        future.complete(response);
+    }
+
+    private void fail(int rid, Throwable error) {
+        CompletableFuture<Response> future = pending.remove(rid);
+        if (future != null) {
+            future.completeExceptionally(error);
+        }
+    }
+
+    private void failAll(Throwable error) {
+        pending.keySet().forEach(rid -> fail(rid, error));
+    }
+}
@@ -0,0 +1,22 @@
+package io.puth.client.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Decoding one JSON response body into the call result.
+ */
+@Name("io.puth.DecodeResponse")
+@Label("Puth Decode Response")
+@Category("Puth")
+@StackTrace(false)
+public class DecodeResponseEvent extends Event {
+    @Label("Function")
+    public String function;
+
+    @Label("Context Id")
+    public String contextId;
+
+    @Label("Payload Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,31 @@
+package io.puth.client.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * The context's portal request handler answering one portal request, e.g. by dispatching it to MockMvc.
+ */
+@Name("io.puth.PortalRequest")
+@Label("Puth Portal Request")
+@Category("Puth")
+@StackTrace(false)
+public class PortalRequestEvent extends Event {
+    @Label("Context Id")
+    public String contextId;
+
+    @Label("Portal Request Id")
+    public String psuri;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+}
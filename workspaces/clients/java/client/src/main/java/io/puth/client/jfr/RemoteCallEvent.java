@@ -0,0 +1,36 @@
+package io.puth.client.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A {@code callFunc} or {@code getProperty} round trip, including portal requests answered while it ran.
+ */
+@Name("io.puth.RemoteCall")
+@Label("Puth Remote Call")
+@Category("Puth")
+@StackTrace(false)
+public class RemoteCallEvent extends Event {
+    @Label("Kind")
+    @Description("CALL or GET")
+    public String kind;
+
+    @Label("Function")
+    public String function;
+
+    @Label("Remote Type")
+    public String represents;
+
+    @Label("Context Id")
+    public String contextId;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,1100 @@
+package io.puth.client.remote;
+
+import io.puth.client.RemoteObject;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+* Non-blocking variant of {@link Browser}, created with {@link Browser#async()}. Calls that return the
+* remote object itself complete with the blocking {@link Browser}.
+*/
+public class AsyncBrowser extends RemoteObject {
+    public AsyncBrowser(String id, String type, String represents, RemoteObject parent, io.puth.client.Context context) {
+        super(id, type, represents, parent, context);
+    }
+
+    @Override
+    protected RemoteObject self() {
+        return parent;
+    }
+
+    public CompletableFuture<Browser> clone() {
+        return this.clone(null, Map.of());
+    }
+
+    public CompletableFuture<Browser> clone(Object site) {
+        return this.clone(site, Map.of());
+    }
+
+    public CompletableFuture<Browser> clone(Object site, Map<String, Object> options) {
+        return this.callFuncAsync("clone", new Object[]{site, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> setTimeout(int timeout) {
+        return this.callFuncAsync("setTimeout", new Object[]{timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> setTimeoutMultiplier(int timeout) {
+        return this.callFuncAsync("setTimeoutMultiplier", new Object[]{timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> setResolverPrefix(String prefix) {
+        return this.callFuncAsync("setResolverPrefix", new Object[]{prefix}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> setResolverPageElements(Map<String, Object> pageElements) {
+        return this.callFuncAsync("setResolverPageElements", new Object[]{pageElements}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> withinIframe(String selector) {
+        return this.callFuncAsync("withinIframe", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> visit(String url) {
+        return this.callFuncAsync("visit", new Object[]{url}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> click() {
+        return this.click(null, Map.of());
+    }
+
+    public CompletableFuture<Browser> click(Object selector) {
+        return this.click(selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> click(Object selector, Object options) {
+        return this.callFuncAsync("click", new Object[]{selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> clickLink(String linkText) {
+        return this.clickLink(linkText, "a");
+    }
+
+    public CompletableFuture<Browser> clickLink(String linkText, String element) {
+        return this.callFuncAsync("clickLink", new Object[]{linkText, element}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> clickAtPoint(int x, int y) {
+        return this.callFuncAsync("clickAtPoint", new Object[]{x, y}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> clickAtXPath(String expression) {
+        return this.callFuncAsync("clickAtXPath", new Object[]{expression}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> clickAndHold() {
+        return this.clickAndHold(null);
+    }
+
+    public CompletableFuture<Browser> clickAndHold(Object selector) {
+        return this.callFuncAsync("clickAndHold", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> doubleClick() {
+        return this.doubleClick(null);
+    }
+
+    public CompletableFuture<Browser> doubleClick(Object selector) {
+        return this.callFuncAsync("doubleClick", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> rightClick() {
+        return this.rightClick(null);
+    }
+
+    public CompletableFuture<Browser> rightClick(Object selector) {
+        return this.callFuncAsync("rightClick", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> controlClick() {
+        return this.controlClick(null);
+    }
+
+    public CompletableFuture<Browser> controlClick(Object selector) {
+        return this.callFuncAsync("controlClick", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> releaseMouse() {
+        return this.callFuncAsync("releaseMouse", new Object[]{}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> moveMouse(int xOffset, int yOffset) {
+        return this.callFuncAsync("moveMouse", new Object[]{xOffset, yOffset}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> setContent(String html) {
+        return this.setContent(html, Map.of());
+    }
+
+    public CompletableFuture<Browser> setContent(String html, Object options) {
+        return this.callFuncAsync("setContent", new Object[]{html, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> blank() {
+        return this.callFuncAsync("blank", new Object[]{}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> reset() {
+        return this.callFuncAsync("reset", new Object[]{}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> refresh() {
+        return this.refresh(Map.of());
+    }
+
+    public CompletableFuture<Browser> refresh(Object options) {
+        return this.callFuncAsync("refresh", new Object[]{options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> back() {
+        return this.back(Map.of());
+    }
+
+    public CompletableFuture<Browser> back(Object options) {
+        return this.callFuncAsync("back", new Object[]{options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> forward() {
+        return this.forward(Map.of());
+    }
+
+    public CompletableFuture<Browser> forward(Object options) {
+        return this.callFuncAsync("forward", new Object[]{options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> maximize() {
+        return this.callFuncAsync("maximize", new Object[]{}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Map<String, Object>> bounds() {
+        return this.callFuncAsync("bounds", new Object[]{}).thenApply(r -> (Map<String, Object>) r);
+    }
+
+    public CompletableFuture<Browser> setBounds(Object bounds) {
+        return this.callFuncAsync("setBounds", new Object[]{bounds}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> resize(int width, int height) {
+        return this.callFuncAsync("resize", new Object[]{width, height}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> move(int x, int y) {
+        return this.callFuncAsync("move", new Object[]{x, y}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> scrollIntoView(String selector) {
+        return this.callFuncAsync("scrollIntoView", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Map<String, Object>> clickablePoint(String selector) {
+        return this.clickablePoint(selector, null);
+    }
+
+    public CompletableFuture<Map<String, Object>> clickablePoint(String selector, Object offset) {
+        return this.callFuncAsync("clickablePoint", new Object[]{selector, offset}).thenApply(r -> (Map<String, Object>) r);
+    }
+
+    public CompletableFuture<Browser> scrollTo(String selector) {
+        return this.callFuncAsync("scrollTo", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Void> quit() {
+        return this.callFuncAsync("quit", new Object[]{}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<String> url() {
+        return this.callFuncAsync("url", new Object[]{}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<String> scheme() {
+        return this.callFuncAsync("scheme", new Object[]{}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<String> host() {
+        return this.callFuncAsync("host", new Object[]{}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<String> path() {
+        return this.callFuncAsync("path", new Object[]{}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<String> port() {
+        return this.callFuncAsync("port", new Object[]{}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<String> title() {
+        return this.callFuncAsync("title", new Object[]{}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<String> content() {
+        return this.callFuncAsync("content", new Object[]{}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<Map<String, Object>> viewport() {
+        return this.callFuncAsync("viewport", new Object[]{}).thenApply(r -> (Map<String, Object>) r);
+    }
+
+    public CompletableFuture<Object> getCookieByName(String name) {
+        return this.callFuncAsync("getCookieByName", new Object[]{name});
+    }
+
+    public CompletableFuture<Browser> setCookie(Object[] cookies) {
+        return this.callFuncAsync("setCookie", new Object[]{cookies}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> deleteCookie(Object cookies) {
+        return this.callFuncAsync("deleteCookie", new Object[]{cookies}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Object> screenshot() {
+        return this.screenshot(Map.of());
+    }
+
+    public CompletableFuture<Object> screenshot(Object options) {
+        return this.callFuncAsync("screenshot", new Object[]{options});
+    }
+
+    public CompletableFuture<Browser> fitContent() {
+        return this.callFuncAsync("fitContent", new Object[]{}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> disableFitOnFailure() {
+        return this.callFuncAsync("disableFitOnFailure", new Object[]{}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> enableFitOnFailure() {
+        return this.callFuncAsync("enableFitOnFailure", new Object[]{}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<String> text(String selector) {
+        return this.callFuncAsync("text", new Object[]{selector}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<String> attribute(String selector, String attribute) {
+        return this.callFuncAsync("attribute", new Object[]{selector, attribute}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<Browser> _type(String selector, String value) {
+        return this._type(selector, value, Map.of());
+    }
+
+    public CompletableFuture<Browser> _type(String selector, String value, Object options) {
+        return this.callFuncAsync("_type", new Object[]{selector, value, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> type(String selector, String value) {
+        return this.callFuncAsync("type", new Object[]{selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> typeSlowly(String selector, String value) {
+        return this.typeSlowly(selector, value, 100);
+    }
+
+    public CompletableFuture<Browser> typeSlowly(String selector, String value, int pause) {
+        return this.callFuncAsync("typeSlowly", new Object[]{selector, value, pause}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> append(String selector, String value) {
+        return this.callFuncAsync("append", new Object[]{selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> appendSlowly(String selector, String value) {
+        return this.appendSlowly(selector, value, 100);
+    }
+
+    public CompletableFuture<Browser> appendSlowly(String selector, String value, int pause) {
+        return this.callFuncAsync("appendSlowly", new Object[]{selector, value, pause}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> clear(String selector) {
+        return this.callFuncAsync("clear", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> keys(String selector) {
+        return this.keys(selector, new String[]{});
+    }
+
+    public CompletableFuture<Browser> keys(String selector, String[] keys) {
+        return this.callFuncAsync("keys", new Object[]{selector, keys}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> select(String selector) {
+        return this.select(selector, null);
+    }
+
+    public CompletableFuture<Browser> select(String selector, Object value) {
+        return this.callFuncAsync("select", new Object[]{selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> radio(String selector, String value) {
+        return this.callFuncAsync("radio", new Object[]{selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> _check(boolean shouldBeChecked, String selector) {
+        return this._check(shouldBeChecked, selector, null);
+    }
+
+    public CompletableFuture<Browser> _check(boolean shouldBeChecked, String selector, Object value) {
+        return this.callFuncAsync("_check", new Object[]{shouldBeChecked, selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> check(String selector) {
+        return this.check(selector, null);
+    }
+
+    public CompletableFuture<Browser> check(String selector, Object value) {
+        return this.callFuncAsync("check", new Object[]{selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> uncheck(String selector) {
+        return this.uncheck(selector, null);
+    }
+
+    public CompletableFuture<Browser> uncheck(String selector, Object value) {
+        return this.callFuncAsync("uncheck", new Object[]{selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> drag(String from, String to) {
+        return this.callFuncAsync("drag", new Object[]{from, to}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> dragOffset(String selector, int x, int y) {
+        return this.callFuncAsync("dragOffset", new Object[]{selector, x, y}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> dragUp(String selector, int offset) {
+        return this.callFuncAsync("dragUp", new Object[]{selector, offset}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> dragDown(String selector, int offset) {
+        return this.callFuncAsync("dragDown", new Object[]{selector, offset}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> dragLeft(String selector, int offset) {
+        return this.callFuncAsync("dragLeft", new Object[]{selector, offset}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> dragRight(String selector, int offset) {
+        return this.callFuncAsync("dragRight", new Object[]{selector, offset}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Object> _waitFor(Object selector) {
+        return this._waitFor(selector, null);
+    }
+
+    public CompletableFuture<Object> _waitFor(Object selector, Map<String, Object> options) {
+        return this.callFuncAsync("_waitFor", new Object[]{selector, options});
+    }
+
+    public CompletableFuture<Browser> waitFor(String selector) {
+        return this.waitFor(selector, null);
+    }
+
+    public CompletableFuture<Browser> waitFor(String selector, Object timeout) {
+        return this.callFuncAsync("waitFor", new Object[]{selector, timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitUntilMissing(String selector) {
+        return this.waitUntilMissing(selector, null);
+    }
+
+    public CompletableFuture<Browser> waitUntilMissing(String selector, Object timeout) {
+        return this.callFuncAsync("waitUntilMissing", new Object[]{selector, timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitForLink(String selector) {
+        return this.waitForLink(selector, null);
+    }
+
+    public CompletableFuture<Browser> waitForLink(String selector, Object timeout) {
+        return this.callFuncAsync("waitForLink", new Object[]{selector, timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitForInput(String selector) {
+        return this.waitForInput(selector, null);
+    }
+
+    public CompletableFuture<Browser> waitForInput(String selector, Object timeout) {
+        return this.callFuncAsync("waitForInput", new Object[]{selector, timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitForLocation(String selector) {
+        return this.waitForLocation(selector, null);
+    }
+
+    public CompletableFuture<Browser> waitForLocation(String selector, Object timeout) {
+        return this.callFuncAsync("waitForLocation", new Object[]{selector, timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitForEvent(String type) {
+        return this.waitForEvent(type, "", null);
+    }
+
+    public CompletableFuture<Browser> waitForEvent(String type, String target) {
+        return this.waitForEvent(type, target, null);
+    }
+
+    public CompletableFuture<Browser> waitForEvent(String type, String target, Object timeout) {
+        return this.callFuncAsync("waitForEvent", new Object[]{type, target, timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitForNotPresent(String selector) {
+        return this.waitForNotPresent(selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> waitForNotPresent(String selector, Map<String, Object> options) {
+        return this.callFuncAsync("waitForNotPresent", new Object[]{selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitForText(Object text) {
+        return this.waitForText(text, null, false);
+    }
+
+    public CompletableFuture<Browser> waitForText(Object text, Object timeout) {
+        return this.waitForText(text, timeout, false);
+    }
+
+    public CompletableFuture<Browser> waitForText(Object text, Object timeout, boolean ignoreCase) {
+        return this.callFuncAsync("waitForText", new Object[]{text, timeout, ignoreCase}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitUntilMissingText(Object text) {
+        return this.waitUntilMissingText(text, null, false);
+    }
+
+    public CompletableFuture<Browser> waitUntilMissingText(Object text, Object timeout) {
+        return this.waitUntilMissingText(text, timeout, false);
+    }
+
+    public CompletableFuture<Browser> waitUntilMissingText(Object text, Object timeout, boolean ignoreCase) {
+        return this.callFuncAsync("waitUntilMissingText", new Object[]{text, timeout, ignoreCase}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitForTextIn(String selector, Object text) {
+        return this.waitForTextIn(selector, text, null, false);
+    }
+
+    public CompletableFuture<Browser> waitForTextIn(String selector, Object text, Object timeout) {
+        return this.waitForTextIn(selector, text, timeout, false);
+    }
+
+    public CompletableFuture<Browser> waitForTextIn(String selector, Object text, Object timeout, boolean ignoreCase) {
+        return this.callFuncAsync("waitForTextIn", new Object[]{selector, text, timeout, ignoreCase}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitUntilMissingTextIn(String selector, Object text) {
+        return this.waitUntilMissingTextIn(selector, text, null, false);
+    }
+
+    public CompletableFuture<Browser> waitUntilMissingTextIn(String selector, Object text, Object timeout) {
+        return this.waitUntilMissingTextIn(selector, text, timeout, false);
+    }
+
+    public CompletableFuture<Browser> waitUntilMissingTextIn(String selector, Object text, Object timeout, boolean ignoreCase) {
+        return this.callFuncAsync("waitUntilMissingTextIn", new Object[]{selector, text, timeout, ignoreCase}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Void> waitUntil(Object pageFunction) {
+        return this.waitUntil(pageFunction, new Object[]{}, null, Map.of());
+    }
+
+    public CompletableFuture<Void> waitUntil(Object pageFunction, Object[] args) {
+        return this.waitUntil(pageFunction, args, null, Map.of());
+    }
+
+    public CompletableFuture<Void> waitUntil(Object pageFunction, Object[] args, Object message) {
+        return this.waitUntil(pageFunction, args, message, Map.of());
+    }
+
+    public CompletableFuture<Void> waitUntil(Object pageFunction, Object[] args, Object message, Map<String, Object> options) {
+        return this.callFuncAsync("waitUntil", new Object[]{pageFunction, args, message, options}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Void> waitUntilAttribute(String selector, String attribute, Object value, String message) {
+        return this.waitUntilAttribute(selector, attribute, value, message, Map.of());
+    }
+
+    public CompletableFuture<Void> waitUntilAttribute(String selector, String attribute, Object value, String message, Map<String, Object> options) {
+        return this.callFuncAsync("waitUntilAttribute", new Object[]{selector, attribute, value, message, options}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Browser> waitUntilEnabled(String selector) {
+        return this.waitUntilEnabled(selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> waitUntilEnabled(String selector, Map<String, Object> options) {
+        return this.callFuncAsync("waitUntilEnabled", new Object[]{selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> waitUntilDisabled(String selector) {
+        return this.waitUntilDisabled(selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> waitUntilDisabled(String selector, Map<String, Object> options) {
+        return this.callFuncAsync("waitUntilDisabled", new Object[]{selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Object> find(String selector) {
+        return this.find(selector, Map.of());
+    }
+
+    public CompletableFuture<Object> find(String selector, Map<String, Object> options) {
+        return this.callFuncAsync("find", new Object[]{selector, options});
+    }
+
+    public CompletableFuture<RemoteObject[]> findAll(Object selector) {
+        return this.findAll(selector, Map.of());
+    }
+
+    public CompletableFuture<RemoteObject[]> findAll(Object selector, Map<String, Object> options) {
+        return this.callFuncAsync("findAll", new Object[]{selector, options}).thenApply(r -> (RemoteObject[]) r);
+    }
+
+    public CompletableFuture<RemoteObject[]> findOrFail(Object selector) {
+        return this.findOrFail(selector, Map.of());
+    }
+
+    public CompletableFuture<RemoteObject[]> findOrFail(Object selector, Map<String, Object> options) {
+        return this.callFuncAsync("findOrFail", new Object[]{selector, options}).thenApply(r -> (RemoteObject[]) r);
+    }
+
+    public CompletableFuture<RemoteObject> firstOrFail(Object selector) {
+        return this.firstOrFail(selector, Map.of());
+    }
+
+    public CompletableFuture<RemoteObject> firstOrFail(Object selector, Map<String, Object> options) {
+        return this.callFuncAsync("firstOrFail", new Object[]{selector, options}).thenApply(r -> (RemoteObject) r);
+    }
+
+    public CompletableFuture<Browser> press(String button) {
+        return this.callFuncAsync("press", new Object[]{button}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> pressAndWaitFor(String button) {
+        return this.callFuncAsync("pressAndWaitFor", new Object[]{button}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertTitle(String title) {
+        return this.callFuncAsync("assertTitle", new Object[]{title}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertTitleContains(String title) {
+        return this.callFuncAsync("assertTitleContains", new Object[]{title}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertHasCookie(String name) {
+        return this.callFuncAsync("assertHasCookie", new Object[]{name}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertCookieMissing(String name) {
+        return this.callFuncAsync("assertCookieMissing", new Object[]{name}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertCookieValue(String name, String value) {
+        return this.callFuncAsync("assertCookieValue", new Object[]{name, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSee(String text) {
+        return this.assertSee(text, false);
+    }
+
+    public CompletableFuture<Browser> assertSee(String text, boolean ignoreCase) {
+        return this.callFuncAsync("assertSee", new Object[]{text, ignoreCase}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertDontSee(String text) {
+        return this.assertDontSee(text, false);
+    }
+
+    public CompletableFuture<Browser> assertDontSee(String text, boolean ignoreCase) {
+        return this.callFuncAsync("assertDontSee", new Object[]{text, ignoreCase}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSeeIn(String selector, String text) {
+        return this.assertSeeIn(selector, text, false);
+    }
+
+    public CompletableFuture<Browser> assertSeeIn(String selector, String text, Object ignoreCase) {
+        return this.callFuncAsync("assertSeeIn", new Object[]{selector, text, ignoreCase}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertDontSeeIn(String selector, String text) {
+        return this.assertDontSeeIn(selector, text, false);
+    }
+
+    public CompletableFuture<Browser> assertDontSeeIn(String selector, String text, Object ignoreCase) {
+        return this.callFuncAsync("assertDontSeeIn", new Object[]{selector, text, ignoreCase}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSeeAnythingIn(String selector) {
+        return this.callFuncAsync("assertSeeAnythingIn", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSeeNothingIn(String selector) {
+        return this.callFuncAsync("assertSeeNothingIn", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertCount(String selector, int count) {
+        return this.callFuncAsync("assertCount", new Object[]{selector, count}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertScript(String expression) {
+        return this.assertScript(expression, true);
+    }
+
+    public CompletableFuture<Browser> assertScript(String expression, Object expected) {
+        return this.callFuncAsync("assertScript", new Object[]{expression, expected}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSourceHas(String code) {
+        return this.callFuncAsync("assertSourceHas", new Object[]{code}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSourceMissing(String code) {
+        return this.callFuncAsync("assertSourceMissing", new Object[]{code}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSeeLink(String link) {
+        return this.assertSeeLink(link, "a", Map.of());
+    }
+
+    public CompletableFuture<Browser> assertSeeLink(String link, String selector) {
+        return this.assertSeeLink(link, selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> assertSeeLink(String link, String selector, Map<String, Object> options) {
+        return this.callFuncAsync("assertSeeLink", new Object[]{link, selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertDontSeeLink(String link) {
+        return this.assertDontSeeLink(link, "a", Map.of());
+    }
+
+    public CompletableFuture<Browser> assertDontSeeLink(String link, String selector) {
+        return this.assertDontSeeLink(link, selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> assertDontSeeLink(String link, String selector, Map<String, Object> options) {
+        return this.callFuncAsync("assertDontSeeLink", new Object[]{link, selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertInputValue(Object field, String value) {
+        return this.callFuncAsync("assertInputValue", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertInputValueIsNot(Object field, String value) {
+        return this.callFuncAsync("assertInputValueIsNot", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Void> resolveForTyping(String selector) {
+        return this.callFuncAsync("resolveForTyping", new Object[]{selector}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Void> resolveForChecking(Object field) {
+        return this.resolveForChecking(field, null);
+    }
+
+    public CompletableFuture<Void> resolveForChecking(Object field, Object value) {
+        return this.callFuncAsync("resolveForChecking", new Object[]{field, value}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Void> resolveForRadioSelection(Object field) {
+        return this.resolveForRadioSelection(field, null);
+    }
+
+    public CompletableFuture<Void> resolveForRadioSelection(Object field, Object value) {
+        return this.callFuncAsync("resolveForRadioSelection", new Object[]{field, value}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Void> resolveForSelection(String field) {
+        return this.callFuncAsync("resolveForSelection", new Object[]{field}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Void> resolveSelectOptions(String field) {
+        return this.callFuncAsync("resolveSelectOptions", new Object[]{field}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Void> resolveForField(String field) {
+        return this.callFuncAsync("resolveForField", new Object[]{field}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Object> resolveForButtonPress(String field) {
+        return this.callFuncAsync("resolveForButtonPress", new Object[]{field});
+    }
+
+    public CompletableFuture<String> inputValue(Object field) {
+        return this.callFuncAsync("inputValue", new Object[]{field}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<Browser> assertInputPresent(String field) {
+        return this.assertInputPresent(field, null);
+    }
+
+    public CompletableFuture<Browser> assertInputPresent(String field, Object timeout) {
+        return this.callFuncAsync("assertInputPresent", new Object[]{field, timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertInputMissing(String field) {
+        return this.assertInputMissing(field, null);
+    }
+
+    public CompletableFuture<Browser> assertInputMissing(String field, Object timeout) {
+        return this.callFuncAsync("assertInputMissing", new Object[]{field, timeout}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertChecked(String field) {
+        return this.assertChecked(field, null);
+    }
+
+    public CompletableFuture<Browser> assertChecked(String field, Object value) {
+        return this.callFuncAsync("assertChecked", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertNotChecked(String field) {
+        return this.assertNotChecked(field, null);
+    }
+
+    public CompletableFuture<Browser> assertNotChecked(String field, Object value) {
+        return this.callFuncAsync("assertNotChecked", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertIndeterminate(String field) {
+        return this.assertIndeterminate(field, null);
+    }
+
+    public CompletableFuture<Browser> assertIndeterminate(String field, Object value) {
+        return this.callFuncAsync("assertIndeterminate", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertRadioSelected(String field, String value) {
+        return this.callFuncAsync("assertRadioSelected", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertRadioNotSelected(String field) {
+        return this.assertRadioNotSelected(field, null);
+    }
+
+    public CompletableFuture<Browser> assertRadioNotSelected(String field, Object value) {
+        return this.callFuncAsync("assertRadioNotSelected", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSelected(String field, Object value) {
+        return this.callFuncAsync("assertSelected", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertNotSelected(String field, Object value) {
+        return this.callFuncAsync("assertNotSelected", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSelectHasOptions(String field, String[] values) {
+        return this.callFuncAsync("assertSelectHasOptions", new Object[]{field, values}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSelectMissingOptions(String field, String[] values) {
+        return this.callFuncAsync("assertSelectMissingOptions", new Object[]{field, values}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSelectHasOption(String field, String value) {
+        return this.callFuncAsync("assertSelectHasOption", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSelectMissingOption(String field, String value) {
+        return this.callFuncAsync("assertSelectMissingOption", new Object[]{field, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertValue(String selector, String value) {
+        return this.callFuncAsync("assertValue", new Object[]{selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertValueIsNot(String selector, String value) {
+        return this.callFuncAsync("assertValueIsNot", new Object[]{selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertAttribute(String selector, String attribute, String value) {
+        return this.callFuncAsync("assertAttribute", new Object[]{selector, attribute, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertAttributeMissing(String selector, String attribute) {
+        return this.callFuncAsync("assertAttributeMissing", new Object[]{selector, attribute}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertAttributeContains(String selector, String attribute, String value) {
+        return this.callFuncAsync("assertAttributeContains", new Object[]{selector, attribute, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertAttributeDoesntContain(String selector, String attribute, String value) {
+        return this.callFuncAsync("assertAttributeDoesntContain", new Object[]{selector, attribute, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertAriaAttribute(String selector, String attribute, String value) {
+        return this.callFuncAsync("assertAriaAttribute", new Object[]{selector, attribute, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertDataAttribute(String selector, String attribute, String value) {
+        return this.callFuncAsync("assertDataAttribute", new Object[]{selector, attribute, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertVisible(String selector) {
+        return this.assertVisible(selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> assertVisible(String selector, Map<String, Object> options) {
+        return this.callFuncAsync("assertVisible", new Object[]{selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertMissing(String selector) {
+        return this.assertMissing(selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> assertMissing(String selector, Map<String, Object> options) {
+        return this.callFuncAsync("assertMissing", new Object[]{selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertPresent(String selector) {
+        return this.assertPresent(selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> assertPresent(String selector, Map<String, Object> options) {
+        return this.callFuncAsync("assertPresent", new Object[]{selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertNotPresent(String selector) {
+        return this.assertNotPresent(selector, Map.of());
+    }
+
+    public CompletableFuture<Browser> assertNotPresent(String selector, Map<String, Object> options) {
+        return this.callFuncAsync("assertNotPresent", new Object[]{selector, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertEnabled(String field) {
+        return this.callFuncAsync("assertEnabled", new Object[]{field}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertDisabled(Object field) {
+        return this.callFuncAsync("assertDisabled", new Object[]{field}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertButtonEnabled(Object button) {
+        return this.callFuncAsync("assertButtonEnabled", new Object[]{button}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertButtonDisabled(String button) {
+        return this.callFuncAsync("assertButtonDisabled", new Object[]{button}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertFocused(String field) {
+        return this.callFuncAsync("assertFocused", new Object[]{field}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertNotFocused(String field) {
+        return this.callFuncAsync("assertNotFocused", new Object[]{field}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertVue(String key, Object value) {
+        return this.assertVue(key, value, null);
+    }
+
+    public CompletableFuture<Browser> assertVue(String key, Object value, Object componentSelector) {
+        return this.callFuncAsync("assertVue", new Object[]{key, value, componentSelector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertVueIsNot(String key, Object value) {
+        return this.assertVueIsNot(key, value, null);
+    }
+
+    public CompletableFuture<Browser> assertVueIsNot(String key, Object value, Object componentSelector) {
+        return this.callFuncAsync("assertVueIsNot", new Object[]{key, value, componentSelector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertVueContains(String key, Object value) {
+        return this.assertVueContains(key, value, null);
+    }
+
+    public CompletableFuture<Browser> assertVueContains(String key, Object value, Object componentSelector) {
+        return this.callFuncAsync("assertVueContains", new Object[]{key, value, componentSelector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertVueDoesntContain(String key, Object value) {
+        return this.assertVueDoesntContain(key, value, null);
+    }
+
+    public CompletableFuture<Browser> assertVueDoesntContain(String key, Object value, Object componentSelector) {
+        return this.callFuncAsync("assertVueDoesntContain", new Object[]{key, value, componentSelector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertVueDoesNotContain(String key, Object value) {
+        return this.assertVueDoesNotContain(key, value, null);
+    }
+
+    public CompletableFuture<Browser> assertVueDoesNotContain(String key, Object value, Object componentSelector) {
+        return this.callFuncAsync("assertVueDoesNotContain", new Object[]{key, value, componentSelector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Object> vueAttribute(Object componentSelector, String key) {
+        return this.callFuncAsync("vueAttribute", new Object[]{componentSelector, key});
+    }
+
+    public CompletableFuture<Browser> assertUrlIs(String url) {
+        return this.assertUrlIs(url, Map.of());
+    }
+
+    public CompletableFuture<Browser> assertUrlIs(String url, Map<String, Object> options) {
+        return this.callFuncAsync("assertUrlIs", new Object[]{url, options}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Void> _assertLocationProperty(String property, String expected) {
+        return this._assertLocationProperty(property, expected, true, 0);
+    }
+
+    public CompletableFuture<Void> _assertLocationProperty(String property, String expected, boolean matches) {
+        return this._assertLocationProperty(property, expected, matches, 0);
+    }
+
+    public CompletableFuture<Void> _assertLocationProperty(String property, String expected, boolean matches, int trimEnd) {
+        return this.callFuncAsync("_assertLocationProperty", new Object[]{property, expected, matches, trimEnd}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Browser> assertSchemeIs(String scheme) {
+        return this.callFuncAsync("assertSchemeIs", new Object[]{scheme}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertSchemeIsNot(String scheme) {
+        return this.callFuncAsync("assertSchemeIsNot", new Object[]{scheme}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertPathIs(String scheme) {
+        return this.callFuncAsync("assertPathIs", new Object[]{scheme}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertPathIsNot(String scheme) {
+        return this.callFuncAsync("assertPathIsNot", new Object[]{scheme}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertHostIs(String host) {
+        return this.callFuncAsync("assertHostIs", new Object[]{host}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertHostIsNot(String host) {
+        return this.callFuncAsync("assertHostIsNot", new Object[]{host}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertPortIs(String port) {
+        return this.callFuncAsync("assertPortIs", new Object[]{port}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertPortIsNot(String port) {
+        return this.callFuncAsync("assertPortIsNot", new Object[]{port}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertPathBeginsWith(String path) {
+        return this.callFuncAsync("assertPathBeginsWith", new Object[]{path}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertPathEndsWith(String path) {
+        return this.callFuncAsync("assertPathEndsWith", new Object[]{path}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertPathContains(String path) {
+        return this.callFuncAsync("assertPathContains", new Object[]{path}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Void> _assertQueryStringParameter(String name) {
+        return this._assertQueryStringParameter(name, null, true);
+    }
+
+    public CompletableFuture<Void> _assertQueryStringParameter(String name, Object value) {
+        return this._assertQueryStringParameter(name, value, true);
+    }
+
+    public CompletableFuture<Void> _assertQueryStringParameter(String name, Object value, boolean matches) {
+        return this.callFuncAsync("_assertQueryStringParameter", new Object[]{name, value, matches}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Browser> assertQueryStringHas(String name) {
+        return this.assertQueryStringHas(name, null);
+    }
+
+    public CompletableFuture<Browser> assertQueryStringHas(String name, Object value) {
+        return this.callFuncAsync("assertQueryStringHas", new Object[]{name, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertQueryStringMissing(String name) {
+        return this.callFuncAsync("assertQueryStringMissing", new Object[]{name}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertFragmentIs(String fragment) {
+        return this.callFuncAsync("assertFragmentIs", new Object[]{fragment}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertFragmentBeginsWith(String fragment) {
+        return this.callFuncAsync("assertFragmentBeginsWith", new Object[]{fragment}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertFragmentIsNot(String fragment) {
+        return this.callFuncAsync("assertFragmentIsNot", new Object[]{fragment}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<String> resolver(Object selector) {
+        return this.callFuncAsync("resolver", new Object[]{selector}).thenApply(r -> (String) r);
+    }
+
+    public CompletableFuture<Browser> waitForDialog() {
+        return this.callFuncAsync("waitForDialog", new Object[]{}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> assertDialogOpened(String message) {
+        return this.callFuncAsync("assertDialogOpened", new Object[]{message}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> typeInDialog(String value) {
+        return this.callFuncAsync("typeInDialog", new Object[]{value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> acceptDialog() {
+        return this.acceptDialog(null);
+    }
+
+    public CompletableFuture<Browser> acceptDialog(Object value) {
+        return this.callFuncAsync("acceptDialog", new Object[]{value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> dismissDialog() {
+        return this.callFuncAsync("dismissDialog", new Object[]{}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> mouseover(String selector) {
+        return this.callFuncAsync("mouseover", new Object[]{selector}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Void> isPage() {
+        return this.callFuncAsync("isPage", new Object[]{}).thenApply(r -> null);
+    }
+
+    public CompletableFuture<Object> value(String selector) {
+        return this.callFuncAsync("value", new Object[]{selector});
+    }
+
+    public CompletableFuture<Browser> value(String selector, Object value) {
+        return this.callFuncAsync("value", new Object[]{selector, value}).thenApply(r -> (Browser) r);
+    }
+
+    public CompletableFuture<Browser> keys(String selector, String keys) {
+        return this.keys(selector, new String[]{keys});
+    }
+
+    public CompletableFuture<Object> evaluate(String pageFunction) {
+        return this.evaluate(pageFunction, new Object[]{});
+    }
+
+    public CompletableFuture<Object> evaluate(String pageFunction, Object[] args) {
+        return this.callFuncAsync("evaluate", new Object[]{pageFunction, args});
+    }
+
+    public CompletableFuture<Object[]> evaluate(String[] pageFunction) {
+        return this.evaluate(pageFunction, new Object[]{});
+    }
+
+    public CompletableFuture<Object[]> evaluate(String[] pageFunction, Object[] args) {
+        return this.callFuncAsync("evaluate", new Object[]{pageFunction, args}).thenApply(r -> (Object[]) r);
+    }
+}
@@ -24,19 +24,19 @@ public class Browser extends RemoteObject {
     }
 
     public Browser setTimeout(int timeout) {
-        return (Browser) this.callFunc("setTimeout", new Object[]{timeout});
+        return (Browser) this.callFunc("setTimeout", new Object[]{timeout}, Browser.class);
     }
 
     public Browser setTimeoutMultiplier(int timeout) {
-        return (Browser) this.callFunc("setTimeoutMultiplier", new Object[]{timeout});
+        return (Browser) this.callFunc("setTimeoutMultiplier", new Object[]{timeout}, Browser.class);
     }
 
     public Browser setResolverPrefix(String prefix) {
-        return (Browser) this.callFunc("setResolverPrefix", new Object[]{prefix});
+        return (Browser) this.callFunc("setResolverPrefix", new Object[]{prefix}, Browser.class);
     }
 
     public Browser setResolverPageElements(Map<String, Object> pageElements) {
-        return (Browser) this.callFunc("setResolverPageElements", new Object[]{pageElements});
+        return (Browser) this.callFunc("setResolverPageElements", new Object[]{pageElements}, Browser.class);
     }
 
     public Browser withinIframe(String selector) {
@@ -44,7 +44,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser visit(String url) {
-        return (Browser) this.callFunc("visit", new Object[]{url});
+        return (Browser) this.callFunc("visit", new Object[]{url}, Browser.class);
     }
 
     public Browser click() {
@@ -56,7 +56,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser click(Object selector, Object options) {
-        return (Browser) this.callFunc("click", new Object[]{selector, options});
+        return (Browser) this.callFunc("click", new Object[]{selector, options}, Browser.class);
     }
 
     public Browser clickLink(String linkText) {
@@ -64,15 +64,15 @@ public class Browser extends RemoteObject {
     }
 
     public Browser clickLink(String linkText, String element) {
-        return (Browser) this.callFunc("clickLink", new Object[]{linkText, element});
+        return (Browser) this.callFunc("clickLink", new Object[]{linkText, element}, Browser.class);
     }
 
     public Browser clickAtPoint(int x, int y) {
-        return (Browser) this.callFunc("clickAtPoint", new Object[]{x, y});
+        return (Browser) this.callFunc("clickAtPoint", new Object[]{x, y}, Browser.class);
     }
 
     public Browser clickAtXPath(String expression) {
-        return (Browser) this.callFunc("clickAtXPath", new Object[]{expression});
+        return (Browser) this.callFunc("clickAtXPath", new Object[]{expression}, Browser.class);
     }
 
     public Browser clickAndHold() {
@@ -80,7 +80,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser clickAndHold(Object selector) {
-        return (Browser) this.callFunc("clickAndHold", new Object[]{selector});
+        return (Browser) this.callFunc("clickAndHold", new Object[]{selector}, Browser.class);
     }
 
     public Browser doubleClick() {
@@ -88,7 +88,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser doubleClick(Object selector) {
-        return (Browser) this.callFunc("doubleClick", new Object[]{selector});
+        return (Browser) this.callFunc("doubleClick", new Object[]{selector}, Browser.class);
     }
 
     public Browser rightClick() {
@@ -96,7 +96,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser rightClick(Object selector) {
-        return (Browser) this.callFunc("rightClick", new Object[]{selector});
+        return (Browser) this.callFunc("rightClick", new Object[]{selector}, Browser.class);
     }
 
     public Browser controlClick() {
@@ -104,15 +104,15 @@ public class Browser extends RemoteObject {
     }
 
     public Browser controlClick(Object selector) {
-        return (Browser) this.callFunc("controlClick", new Object[]{selector});
+        return (Browser) this.callFunc("controlClick", new Object[]{selector}, Browser.class);
     }
 
     public Browser releaseMouse() {
-        return (Browser) this.callFunc("releaseMouse", new Object[]{});
+        return (Browser) this.callFunc("releaseMouse", new Object[]{}, Browser.class);
     }
 
     public Browser moveMouse(int xOffset, int yOffset) {
-        return (Browser) this.callFunc("moveMouse", new Object[]{xOffset, yOffset});
+        return (Browser) this.callFunc("moveMouse", new Object[]{xOffset, yOffset}, Browser.class);
     }
 
     public Browser setContent(String html) {
@@ -120,11 +120,15 @@ public class Browser extends RemoteObject {
     }
 
     public Browser setContent(String html, Object options) {
-        return (Browser) this.callFunc("setContent", new Object[]{html, options});
+        return (Browser) this.callFunc("setContent", new Object[]{html, options}, Browser.class);
     }
 
     public Browser blank() {
-        return (Browser) this.callFunc("blank", new Object[]{});
+        return (Browser) this.callFunc("blank", new Object[]{}, Browser.class);
+    }
+
+    public Browser reset() {
+        return (Browser) this.callFunc("reset", new Object[]{}, Browser.class);
     }
 
     public Browser refresh() {
@@ -132,7 +136,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser refresh(Object options) {
-        return (Browser) this.callFunc("refresh", new Object[]{options});
+        return (Browser) this.callFunc("refresh", new Object[]{options}, Browser.class);
     }
 
     public Browser back() {
@@ -140,7 +144,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser back(Object options) {
-        return (Browser) this.callFunc("back", new Object[]{options});
+        return (Browser) this.callFunc("back", new Object[]{options}, Browser.class);
     }
 
     public Browser forward() {
@@ -148,11 +152,11 @@ public class Browser extends RemoteObject {
     }
 
     public Browser forward(Object options) {
-        return (Browser) this.callFunc("forward", new Object[]{options});
+        return (Browser) this.callFunc("forward", new Object[]{options}, Browser.class);
     }
 
     public Browser maximize() {
-        return (Browser) this.callFunc("maximize", new Object[]{});
+        return (Browser) this.callFunc("maximize", new Object[]{}, Browser.class);
     }
 
     public Map<String, Object> bounds() {
@@ -160,19 +164,19 @@ public class Browser extends RemoteObject {
     }
 
     public Browser setBounds(Object bounds) {
-        return (Browser) this.callFunc("setBounds", new Object[]{bounds});
+        return (Browser) this.callFunc("setBounds", new Object[]{bounds}, Browser.class);
     }
 
     public Browser resize(int width, int height) {
-        return (Browser) this.callFunc("resize", new Object[]{width, height});
+        return (Browser) this.callFunc("resize", new Object[]{width, height}, Browser.class);
     }
 
     public Browser move(int x, int y) {
-        return (Browser) this.callFunc("move", new Object[]{x, y});
+        return (Browser) this.callFunc("move", new Object[]{x, y}, Browser.class);
     }
 
     public Browser scrollIntoView(String selector) {
-        return (Browser) this.callFunc("scrollIntoView", new Object[]{selector});
+        return (Browser) this.callFunc("scrollIntoView", new Object[]{selector}, Browser.class);
     }
 
     public Map<String, Object> clickablePoint(String selector) {
@@ -184,7 +188,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser scrollTo(String selector) {
-        return (Browser) this.callFunc("scrollTo", new Object[]{selector});
+        return (Browser) this.callFunc("scrollTo", new Object[]{selector}, Browser.class);
     }
 
     public void quit() {
@@ -228,11 +232,11 @@ public class Browser extends RemoteObject {
     }
 
     public Browser setCookie(Object[] cookies) {
-        return (Browser) this.callFunc("setCookie", new Object[]{cookies});
+        return (Browser) this.callFunc("setCookie", new Object[]{cookies}, Browser.class);
     }
 
     public Browser deleteCookie(Object cookies) {
-        return (Browser) this.callFunc("deleteCookie", new Object[]{cookies});
+        return (Browser) this.callFunc("deleteCookie", new Object[]{cookies}, Browser.class);
     }
 
     public Object screenshot() {
@@ -244,15 +248,15 @@ public class Browser extends RemoteObject {
     }
 
     public Browser fitContent() {
-        return (Browser) this.callFunc("fitContent", new Object[]{});
+        return (Browser) this.callFunc("fitContent", new Object[]{}, Browser.class);
     }
 
     public Browser disableFitOnFailure() {
-        return (Browser) this.callFunc("disableFitOnFailure", new Object[]{});
+        return (Browser) this.callFunc("disableFitOnFailure", new Object[]{}, Browser.class);
     }
 
     public Browser enableFitOnFailure() {
-        return (Browser) this.callFunc("enableFitOnFailure", new Object[]{});
+        return (Browser) this.callFunc("enableFitOnFailure", new Object[]{}, Browser.class);
     }
 
     public String text(String selector) {
@@ -268,11 +272,11 @@ public class Browser extends RemoteObject {
     }
 
     public Browser _type(String selector, String value, Object options) {
-        return (Browser) this.callFunc("_type", new Object[]{selector, value, options});
+        return (Browser) this.callFunc("_type", new Object[]{selector, value, options}, Browser.class);
     }
 
     public Browser type(String selector, String value) {
-        return (Browser) this.callFunc("type", new Object[]{selector, value});
+        return (Browser) this.callFunc("type", new Object[]{selector, value}, Browser.class);
     }
 
     public Browser typeSlowly(String selector, String value) {
@@ -280,11 +284,11 @@ public class Browser extends RemoteObject {
     }
 
     public Browser typeSlowly(String selector, String value, int pause) {
-        return (Browser) this.callFunc("typeSlowly", new Object[]{selector, value, pause});
+        return (Browser) this.callFunc("typeSlowly", new Object[]{selector, value, pause}, Browser.class);
     }
 
     public Browser append(String selector, String value) {
-        return (Browser) this.callFunc("append", new Object[]{selector, value});
+        return (Browser) this.callFunc("append", new Object[]{selector, value}, Browser.class);
     }
 
     public Browser appendSlowly(String selector, String value) {
@@ -292,11 +296,11 @@ public class Browser extends RemoteObject {
     }
 
     public Browser appendSlowly(String selector, String value, int pause) {
-        return (Browser) this.callFunc("appendSlowly", new Object[]{selector, value, pause});
+        return (Browser) this.callFunc("appendSlowly", new Object[]{selector, value, pause}, Browser.class);
     }
 
     public Browser clear(String selector) {
-        return (Browser) this.callFunc("clear", new Object[]{selector});
+        return (Browser) this.callFunc("clear", new Object[]{selector}, Browser.class);
     }
 
     public Browser keys(String selector) {
@@ -304,7 +308,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser keys(String selector, String[] keys) {
-        return (Browser) this.callFunc("keys", new Object[]{selector, keys});
+        return (Browser) this.callFunc("keys", new Object[]{selector, keys}, Browser.class);
     }
 
     public Browser select(String selector) {
@@ -312,11 +316,11 @@ public class Browser extends RemoteObject {
     }
 
     public Browser select(String selector, Object value) {
-        return (Browser) this.callFunc("select", new Object[]{selector, value});
+        return (Browser) this.callFunc("select", new Object[]{selector, value}, Browser.class);
     }
 
     public Browser radio(String selector, String value) {
-        return (Browser) this.callFunc("radio", new Object[]{selector, value});
+        return (Browser) this.callFunc("radio", new Object[]{selector, value}, Browser.class);
     }
 
     public Browser _check(boolean shouldBeChecked, String selector) {
@@ -324,7 +328,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser _check(boolean shouldBeChecked, String selector, Object value) {
-        return (Browser) this.callFunc("_check", new Object[]{shouldBeChecked, selector, value});
+        return (Browser) this.callFunc("_check", new Object[]{shouldBeChecked, selector, value}, Browser.class);
     }
 
     public Browser check(String selector) {
@@ -332,7 +336,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser check(String selector, Object value) {
-        return (Browser) this.callFunc("check", new Object[]{selector, value});
+        return (Browser) this.callFunc("check", new Object[]{selector, value}, Browser.class);
     }
 
     public Browser uncheck(String selector) {
@@ -340,31 +344,31 @@ public class Browser extends RemoteObject {
     }
 
     public Browser uncheck(String selector, Object value) {
-        return (Browser) this.callFunc("uncheck", new Object[]{selector, value});
+        return (Browser) this.callFunc("uncheck", new Object[]{selector, value}, Browser.class);
     }
 
     public Browser drag(String from, String to) {
-        return (Browser) this.callFunc("drag", new Object[]{from, to});
+        return (Browser) this.callFunc("drag", new Object[]{from, to}, Browser.class);
     }
 
     public Browser dragOffset(String selector, int x, int y) {
-        return (Browser) this.callFunc("dragOffset", new Object[]{selector, x, y});
+        return (Browser) this.callFunc("dragOffset", new Object[]{selector, x, y}, Browser.class);
     }
 
     public Browser dragUp(String selector, int offset) {
-        return (Browser) this.callFunc("dragUp", new Object[]{selector, offset});
+        return (Browser) this.callFunc("dragUp", new Object[]{selector, offset}, Browser.class);
     }
 
     public Browser dragDown(String selector, int offset) {
-        return (Browser) this.callFunc("dragDown", new Object[]{selector, offset});
+        return (Browser) this.callFunc("dragDown", new Object[]{selector, offset}, Browser.class);
     }
 
     public Browser dragLeft(String selector, int offset) {
-        return (Browser) this.callFunc("dragLeft", new Object[]{selector, offset});
+        return (Browser) this.callFunc("dragLeft", new Object[]{selector, offset}, Browser.class);
     }
 
     public Browser dragRight(String selector, int offset) {
-        return (Browser) this.callFunc("dragRight", new Object[]{selector, offset});
+        return (Browser) this.callFunc("dragRight", new Object[]{selector, offset}, Browser.class);
     }
 
     public Object _waitFor(Object selector) {
@@ -380,7 +384,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitFor(String selector, Object timeout) {
-        return (Browser) this.callFunc("waitFor", new Object[]{selector, timeout});
+        return (Browser) this.callFunc("waitFor", new Object[]{selector, timeout}, Browser.class);
     }
 
     public Browser waitUntilMissing(String selector) {
@@ -388,7 +392,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitUntilMissing(String selector, Object timeout) {
-        return (Browser) this.callFunc("waitUntilMissing", new Object[]{selector, timeout});
+        return (Browser) this.callFunc("waitUntilMissing", new Object[]{selector, timeout}, Browser.class);
     }
 
     public Browser waitForLink(String selector) {
@@ -396,7 +400,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitForLink(String selector, Object timeout) {
-        return (Browser) this.callFunc("waitForLink", new Object[]{selector, timeout});
+        return (Browser) this.callFunc("waitForLink", new Object[]{selector, timeout}, Browser.class);
     }
 
     public Browser waitForInput(String selector) {
@@ -404,7 +408,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitForInput(String selector, Object timeout) {
-        return (Browser) this.callFunc("waitForInput", new Object[]{selector, timeout});
+        return (Browser) this.callFunc("waitForInput", new Object[]{selector, timeout}, Browser.class);
     }
 
     public Browser waitForLocation(String selector) {
@@ -412,7 +416,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitForLocation(String selector, Object timeout) {
-        return (Browser) this.callFunc("waitForLocation", new Object[]{selector, timeout});
+        return (Browser) this.callFunc("waitForLocation", new Object[]{selector, timeout}, Browser.class);
     }
 
     public Browser waitForEvent(String type) {
@@ -424,7 +428,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitForEvent(String type, String target, Object timeout) {
-        return (Browser) this.callFunc("waitForEvent", new Object[]{type, target, timeout});
+        return (Browser) this.callFunc("waitForEvent", new Object[]{type, target, timeout}, Browser.class);
     }
 
     public Browser waitForNotPresent(String selector) {
@@ -432,7 +436,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitForNotPresent(String selector, Map<String, Object> options) {
-        return (Browser) this.callFunc("waitForNotPresent", new Object[]{selector, options});
+        return (Browser) this.callFunc("waitForNotPresent", new Object[]{selector, options}, Browser.class);
     }
 
     public Browser waitForText(Object text) {
@@ -444,7 +448,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitForText(Object text, Object timeout, boolean ignoreCase) {
-        return (Browser) this.callFunc("waitForText", new Object[]{text, timeout, ignoreCase});
+        return (Browser) this.callFunc("waitForText", new Object[]{text, timeout, ignoreCase}, Browser.class);
     }
 
     public Browser waitUntilMissingText(Object text) {
@@ -456,7 +460,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitUntilMissingText(Object text, Object timeout, boolean ignoreCase) {
-        return (Browser) this.callFunc("waitUntilMissingText", new Object[]{text, timeout, ignoreCase});
+        return (Browser) this.callFunc("waitUntilMissingText", new Object[]{text, timeout, ignoreCase}, Browser.class);
     }
 
     public Browser waitForTextIn(String selector, Object text) {
@@ -468,7 +472,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitForTextIn(String selector, Object text, Object timeout, boolean ignoreCase) {
-        return (Browser) this.callFunc("waitForTextIn", new Object[]{selector, text, timeout, ignoreCase});
+        return (Browser) this.callFunc("waitForTextIn", new Object[]{selector, text, timeout, ignoreCase}, Browser.class);
     }
 
     public Browser waitUntilMissingTextIn(String selector, Object text) {
@@ -480,7 +484,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitUntilMissingTextIn(String selector, Object text, Object timeout, boolean ignoreCase) {
-        return (Browser) this.callFunc("waitUntilMissingTextIn", new Object[]{selector, text, timeout, ignoreCase});
+        return (Browser) this.callFunc("waitUntilMissingTextIn", new Object[]{selector, text, timeout, ignoreCase}, Browser.class);
     }
 
     public void waitUntil(Object pageFunction) {
@@ -512,7 +516,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitUntilEnabled(String selector, Map<String, Object> options) {
-        return (Browser) this.callFunc("waitUntilEnabled", new Object[]{selector, options});
+        return (Browser) this.callFunc("waitUntilEnabled", new Object[]{selector, options}, Browser.class);
     }
 
     public Browser waitUntilDisabled(String selector) {
@@ -520,7 +524,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitUntilDisabled(String selector, Map<String, Object> options) {
-        return (Browser) this.callFunc("waitUntilDisabled", new Object[]{selector, options});
+        return (Browser) this.callFunc("waitUntilDisabled", new Object[]{selector, options}, Browser.class);
     }
 
     public Object find(String selector) {
@@ -556,31 +560,31 @@ public class Browser extends RemoteObject {
     }
 
     public Browser press(String button) {
-        return (Browser) this.callFunc("press", new Object[]{button});
+        return (Browser) this.callFunc("press", new Object[]{button}, Browser.class);
     }
 
     public Browser pressAndWaitFor(String button) {
-        return (Browser) this.callFunc("pressAndWaitFor", new Object[]{button});
+        return (Browser) this.callFunc("pressAndWaitFor", new Object[]{button}, Browser.class);
     }
 
     public Browser assertTitle(String title) {
-        return (Browser) this.callFunc("assertTitle", new Object[]{title});
+        return (Browser) this.callFunc("assertTitle", new Object[]{title}, Browser.class);
     }
 
     public Browser assertTitleContains(String title) {
-        return (Browser) this.callFunc("assertTitleContains", new Object[]{title});
+        return (Browser) this.callFunc("assertTitleContains", new Object[]{title}, Browser.class);
     }
 
     public Browser assertHasCookie(String name) {
-        return (Browser) this.callFunc("assertHasCookie", new Object[]{name});
+        return (Browser) this.callFunc("assertHasCookie", new Object[]{name}, Browser.class);
     }
 
     public Browser assertCookieMissing(String name) {
-        return (Browser) this.callFunc("assertCookieMissing", new Object[]{name});
+        return (Browser) this.callFunc("assertCookieMissing", new Object[]{name}, Browser.class);
     }
 
     public Browser assertCookieValue(String name, String value) {
-        return (Browser) this.callFunc("assertCookieValue", new Object[]{name, value});
+        return (Browser) this.callFunc("assertCookieValue", new Object[]{name, value}, Browser.class);
     }
 
     public Browser assertSee(String text) {
@@ -588,7 +592,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertSee(String text, boolean ignoreCase) {
-        return (Browser) this.callFunc("assertSee", new Object[]{text, ignoreCase});
+        return (Browser) this.callFunc("assertSee", new Object[]{text, ignoreCase}, Browser.class);
     }
 
     public Browser assertDontSee(String text) {
@@ -596,7 +600,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertDontSee(String text, boolean ignoreCase) {
-        return (Browser) this.callFunc("assertDontSee", new Object[]{text, ignoreCase});
+        return (Browser) this.callFunc("assertDontSee", new Object[]{text, ignoreCase}, Browser.class);
     }
 
     public Browser assertSeeIn(String selector, String text) {
@@ -604,7 +608,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertSeeIn(String selector, String text, Object ignoreCase) {
-        return (Browser) this.callFunc("assertSeeIn", new Object[]{selector, text, ignoreCase});
+        return (Browser) this.callFunc("assertSeeIn", new Object[]{selector, text, ignoreCase}, Browser.class);
     }
 
     public Browser assertDontSeeIn(String selector, String text) {
@@ -612,19 +616,19 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertDontSeeIn(String selector, String text, Object ignoreCase) {
-        return (Browser) this.callFunc("assertDontSeeIn", new Object[]{selector, text, ignoreCase});
+        return (Browser) this.callFunc("assertDontSeeIn", new Object[]{selector, text, ignoreCase}, Browser.class);
     }
 
     public Browser assertSeeAnythingIn(String selector) {
-        return (Browser) this.callFunc("assertSeeAnythingIn", new Object[]{selector});
+        return (Browser) this.callFunc("assertSeeAnythingIn", new Object[]{selector}, Browser.class);
     }
 
     public Browser assertSeeNothingIn(String selector) {
-        return (Browser) this.callFunc("assertSeeNothingIn", new Object[]{selector});
+        return (Browser) this.callFunc("assertSeeNothingIn", new Object[]{selector}, Browser.class);
     }
 
     public Browser assertCount(String selector, int count) {
-        return (Browser) this.callFunc("assertCount", new Object[]{selector, count});
+        return (Browser) this.callFunc("assertCount", new Object[]{selector, count}, Browser.class);
     }
 
     public Browser assertScript(String expression) {
@@ -632,15 +636,15 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertScript(String expression, Object expected) {
-        return (Browser) this.callFunc("assertScript", new Object[]{expression, expected});
+        return (Browser) this.callFunc("assertScript", new Object[]{expression, expected}, Browser.class);
     }
 
     public Browser assertSourceHas(String code) {
-        return (Browser) this.callFunc("assertSourceHas", new Object[]{code});
+        return (Browser) this.callFunc("assertSourceHas", new Object[]{code}, Browser.class);
     }
 
     public Browser assertSourceMissing(String code) {
-        return (Browser) this.callFunc("assertSourceMissing", new Object[]{code});
+        return (Browser) this.callFunc("assertSourceMissing", new Object[]{code}, Browser.class);
     }
 
     public Browser assertSeeLink(String link) {
@@ -652,7 +656,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertSeeLink(String link, String selector, Map<String, Object> options) {
-        return (Browser) this.callFunc("assertSeeLink", new Object[]{link, selector, options});
+        return (Browser) this.callFunc("assertSeeLink", new Object[]{link, selector, options}, Browser.class);
     }
 
     public Browser assertDontSeeLink(String link) {
@@ -664,15 +668,15 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertDontSeeLink(String link, String selector, Map<String, Object> options) {
-        return (Browser) this.callFunc("assertDontSeeLink", new Object[]{link, selector, options});
+        return (Browser) this.callFunc("assertDontSeeLink", new Object[]{link, selector, options}, Browser.class);
     }
 
     public Browser assertInputValue(Object field, String value) {
-        return (Browser) this.callFunc("assertInputValue", new Object[]{field, value});
+        return (Browser) this.callFunc("assertInputValue", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertInputValueIsNot(Object field, String value) {
-        return (Browser) this.callFunc("assertInputValueIsNot", new Object[]{field, value});
+        return (Browser) this.callFunc("assertInputValueIsNot", new Object[]{field, value}, Browser.class);
     }
 
     public void resolveForTyping(String selector) {
@@ -720,7 +724,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertInputPresent(String field, Object timeout) {
-        return (Browser) this.callFunc("assertInputPresent", new Object[]{field, timeout});
+        return (Browser) this.callFunc("assertInputPresent", new Object[]{field, timeout}, Browser.class);
     }
 
     public Browser assertInputMissing(String field) {
@@ -728,7 +732,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertInputMissing(String field, Object timeout) {
-        return (Browser) this.callFunc("assertInputMissing", new Object[]{field, timeout});
+        return (Browser) this.callFunc("assertInputMissing", new Object[]{field, timeout}, Browser.class);
     }
 
     public Browser assertChecked(String field) {
@@ -736,7 +740,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertChecked(String field, Object value) {
-        return (Browser) this.callFunc("assertChecked", new Object[]{field, value});
+        return (Browser) this.callFunc("assertChecked", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertNotChecked(String field) {
@@ -744,7 +748,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertNotChecked(String field, Object value) {
-        return (Browser) this.callFunc("assertNotChecked", new Object[]{field, value});
+        return (Browser) this.callFunc("assertNotChecked", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertIndeterminate(String field) {
@@ -752,11 +756,11 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertIndeterminate(String field, Object value) {
-        return (Browser) this.callFunc("assertIndeterminate", new Object[]{field, value});
+        return (Browser) this.callFunc("assertIndeterminate", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertRadioSelected(String field, String value) {
-        return (Browser) this.callFunc("assertRadioSelected", new Object[]{field, value});
+        return (Browser) this.callFunc("assertRadioSelected", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertRadioNotSelected(String field) {
@@ -764,63 +768,63 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertRadioNotSelected(String field, Object value) {
-        return (Browser) this.callFunc("assertRadioNotSelected", new Object[]{field, value});
+        return (Browser) this.callFunc("assertRadioNotSelected", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertSelected(String field, Object value) {
-        return (Browser) this.callFunc("assertSelected", new Object[]{field, value});
+        return (Browser) this.callFunc("assertSelected", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertNotSelected(String field, Object value) {
-        return (Browser) this.callFunc("assertNotSelected", new Object[]{field, value});
+        return (Browser) this.callFunc("assertNotSelected", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertSelectHasOptions(String field, String[] values) {
-        return (Browser) this.callFunc("assertSelectHasOptions", new Object[]{field, values});
+        return (Browser) this.callFunc("assertSelectHasOptions", new Object[]{field, values}, Browser.class);
     }
 
     public Browser assertSelectMissingOptions(String field, String[] values) {
-        return (Browser) this.callFunc("assertSelectMissingOptions", new Object[]{field, values});
+        return (Browser) this.callFunc("assertSelectMissingOptions", new Object[]{field, values}, Browser.class);
     }
 
     public Browser assertSelectHasOption(String field, String value) {
-        return (Browser) this.callFunc("assertSelectHasOption", new Object[]{field, value});
+        return (Browser) this.callFunc("assertSelectHasOption", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertSelectMissingOption(String field, String value) {
-        return (Browser) this.callFunc("assertSelectMissingOption", new Object[]{field, value});
+        return (Browser) this.callFunc("assertSelectMissingOption", new Object[]{field, value}, Browser.class);
     }
 
     public Browser assertValue(String selector, String value) {
-        return (Browser) this.callFunc("assertValue", new Object[]{selector, value});
+        return (Browser) this.callFunc("assertValue", new Object[]{selector, value}, Browser.class);
     }
 
     public Browser assertValueIsNot(String selector, String value) {
-        return (Browser) this.callFunc("assertValueIsNot", new Object[]{selector, value});
+        return (Browser) this.callFunc("assertValueIsNot", new Object[]{selector, value}, Browser.class);
     }
 
     public Browser assertAttribute(String selector, String attribute, String value) {
-        return (Browser) this.callFunc("assertAttribute", new Object[]{selector, attribute, value});
+        return (Browser) this.callFunc("assertAttribute", new Object[]{selector, attribute, value}, Browser.class);
     }
 
     public Browser assertAttributeMissing(String selector, String attribute) {
-        return (Browser) this.callFunc("assertAttributeMissing", new Object[]{selector, attribute});
+        return (Browser) this.callFunc("assertAttributeMissing", new Object[]{selector, attribute}, Browser.class);
     }
 
     public Browser assertAttributeContains(String selector, String attribute, String value) {
-        return (Browser) this.callFunc("assertAttributeContains", new Object[]{selector, attribute, value});
+        return (Browser) this.callFunc("assertAttributeContains", new Object[]{selector, attribute, value}, Browser.class);
     }
 
     public Browser assertAttributeDoesntContain(String selector, String attribute, String value) {
-        return (Browser) this.callFunc("assertAttributeDoesntContain", new Object[]{selector, attribute, value});
+        return (Browser) this.callFunc("assertAttributeDoesntContain", new Object[]{selector, attribute, value}, Browser.class);
     }
 
     public Browser assertAriaAttribute(String selector, String attribute, String value) {
-        return (Browser) this.callFunc("assertAriaAttribute", new Object[]{selector, attribute, value});
+        return (Browser) this.callFunc("assertAriaAttribute", new Object[]{selector, attribute, value}, Browser.class);
     }
 
     public Browser assertDataAttribute(String selector, String attribute, String value) {
-        return (Browser) this.callFunc("assertDataAttribute", new Object[]{selector, attribute, value});
+        return (Browser) this.callFunc("assertDataAttribute", new Object[]{selector, attribute, value}, Browser.class);
     }
 
     public Browser assertVisible(String selector) {
@@ -828,7 +832,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertVisible(String selector, Map<String, Object> options) {
-        return (Browser) this.callFunc("assertVisible", new Object[]{selector, options});
+        return (Browser) this.callFunc("assertVisible", new Object[]{selector, options}, Browser.class);
     }
 
     public Browser assertMissing(String selector) {
@@ -836,7 +840,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertMissing(String selector, Map<String, Object> options) {
-        return (Browser) this.callFunc("assertMissing", new Object[]{selector, options});
+        return (Browser) this.callFunc("assertMissing", new Object[]{selector, options}, Browser.class);
     }
 
     public Browser assertPresent(String selector) {
@@ -844,7 +848,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertPresent(String selector, Map<String, Object> options) {
-        return (Browser) this.callFunc("assertPresent", new Object[]{selector, options});
+        return (Browser) this.callFunc("assertPresent", new Object[]{selector, options}, Browser.class);
     }
 
     public Browser assertNotPresent(String selector) {
@@ -852,31 +856,31 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertNotPresent(String selector, Map<String, Object> options) {
-        return (Browser) this.callFunc("assertNotPresent", new Object[]{selector, options});
+        return (Browser) this.callFunc("assertNotPresent", new Object[]{selector, options}, Browser.class);
     }
 
     public Browser assertEnabled(String field) {
-        return (Browser) this.callFunc("assertEnabled", new Object[]{field});
+        return (Browser) this.callFunc("assertEnabled", new Object[]{field}, Browser.class);
     }
 
     public Browser assertDisabled(Object field) {
-        return (Browser) this.callFunc("assertDisabled", new Object[]{field});
+        return (Browser) this.callFunc("assertDisabled", new Object[]{field}, Browser.class);
     }
 
     public Browser assertButtonEnabled(Object button) {
-        return (Browser) this.callFunc("assertButtonEnabled", new Object[]{button});
+        return (Browser) this.callFunc("assertButtonEnabled", new Object[]{button}, Browser.class);
     }
 
     public Browser assertButtonDisabled(String button) {
-        return (Browser) this.callFunc("assertButtonDisabled", new Object[]{button});
+        return (Browser) this.callFunc("assertButtonDisabled", new Object[]{button}, Browser.class);
     }
 
     public Browser assertFocused(String field) {
-        return (Browser) this.callFunc("assertFocused", new Object[]{field});
+        return (Browser) this.callFunc("assertFocused", new Object[]{field}, Browser.class);
     }
 
     public Browser assertNotFocused(String field) {
-        return (Browser) this.callFunc("assertNotFocused", new Object[]{field});
+        return (Browser) this.callFunc("assertNotFocused", new Object[]{field}, Browser.class);
     }
 
     public Browser assertVue(String key, Object value) {
@@ -884,7 +888,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertVue(String key, Object value, Object componentSelector) {
-        return (Browser) this.callFunc("assertVue", new Object[]{key, value, componentSelector});
+        return (Browser) this.callFunc("assertVue", new Object[]{key, value, componentSelector}, Browser.class);
     }
 
     public Browser assertVueIsNot(String key, Object value) {
@@ -892,7 +896,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertVueIsNot(String key, Object value, Object componentSelector) {
-        return (Browser) this.callFunc("assertVueIsNot", new Object[]{key, value, componentSelector});
+        return (Browser) this.callFunc("assertVueIsNot", new Object[]{key, value, componentSelector}, Browser.class);
     }
 
     public Browser assertVueContains(String key, Object value) {
@@ -900,7 +904,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertVueContains(String key, Object value, Object componentSelector) {
-        return (Browser) this.callFunc("assertVueContains", new Object[]{key, value, componentSelector});
+        return (Browser) this.callFunc("assertVueContains", new Object[]{key, value, componentSelector}, Browser.class);
     }
 
     public Browser assertVueDoesntContain(String key, Object value) {
@@ -908,7 +912,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertVueDoesntContain(String key, Object value, Object componentSelector) {
-        return (Browser) this.callFunc("assertVueDoesntContain", new Object[]{key, value, componentSelector});
+        return (Browser) this.callFunc("assertVueDoesntContain", new Object[]{key, value, componentSelector}, Browser.class);
     }
 
     public Browser assertVueDoesNotContain(String key, Object value) {
@@ -916,7 +920,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertVueDoesNotContain(String key, Object value, Object componentSelector) {
-        return (Browser) this.callFunc("assertVueDoesNotContain", new Object[]{key, value, componentSelector});
+        return (Browser) this.callFunc("assertVueDoesNotContain", new Object[]{key, value, componentSelector}, Browser.class);
     }
 
     public Object vueAttribute(Object componentSelector, String key) {
@@ -928,7 +932,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertUrlIs(String url, Map<String, Object> options) {
-        return (Browser) this.callFunc("assertUrlIs", new Object[]{url, options});
+        return (Browser) this.callFunc("assertUrlIs", new Object[]{url, options}, Browser.class);
     }
 
     public void _assertLocationProperty(String property, String expected) {
@@ -944,47 +948,47 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertSchemeIs(String scheme) {
-        return (Browser) this.callFunc("assertSchemeIs", new Object[]{scheme});
+        return (Browser) this.callFunc("assertSchemeIs", new Object[]{scheme}, Browser.class);
     }
 
     public Browser assertSchemeIsNot(String scheme) {
-        return (Browser) this.callFunc("assertSchemeIsNot", new Object[]{scheme});
+        return (Browser) this.callFunc("assertSchemeIsNot", new Object[]{scheme}, Browser.class);
     }
 
     public Browser assertPathIs(String scheme) {
-        return (Browser) this.callFunc("assertPathIs", new Object[]{scheme});
+        return (Browser) this.callFunc("assertPathIs", new Object[]{scheme}, Browser.class);
     }
 
     public Browser assertPathIsNot(String scheme) {
-        return (Browser) this.callFunc("assertPathIsNot", new Object[]{scheme});
+        return (Browser) this.callFunc("assertPathIsNot", new Object[]{scheme}, Browser.class);
     }
 
     public Browser assertHostIs(String host) {
-        return (Browser) this.callFunc("assertHostIs", new Object[]{host});
+        return (Browser) this.callFunc("assertHostIs", new Object[]{host}, Browser.class);
     }
 
     public Browser assertHostIsNot(String host) {
-        return (Browser) this.callFunc("assertHostIsNot", new Object[]{host});
+        return (Browser) this.callFunc("assertHostIsNot", new Object[]{host}, Browser.class);
     }
 
     public Browser assertPortIs(String port) {
-        return (Browser) this.callFunc("assertPortIs", new Object[]{port});
+        return (Browser) this.callFunc("assertPortIs", new Object[]{port}, Browser.class);
     }
 
     public Browser assertPortIsNot(String port) {
-        return (Browser) this.callFunc("assertPortIsNot", new Object[]{port});
+        return (Browser) this.callFunc("assertPortIsNot", new Object[]{port}, Browser.class);
     }
 
     public Browser assertPathBeginsWith(String path) {
-        return (Browser) this.callFunc("assertPathBeginsWith", new Object[]{path});
+        return (Browser) this.callFunc("assertPathBeginsWith", new Object[]{path}, Browser.class);
     }
 
     public Browser assertPathEndsWith(String path) {
-        return (Browser) this.callFunc("assertPathEndsWith", new Object[]{path});
+        return (Browser) this.callFunc("assertPathEndsWith", new Object[]{path}, Browser.class);
     }
 
     public Browser assertPathContains(String path) {
-        return (Browser) this.callFunc("assertPathContains", new Object[]{path});
+        return (Browser) this.callFunc("assertPathContains", new Object[]{path}, Browser.class);
     }
 
     public void _assertQueryStringParameter(String name) {
@@ -1004,23 +1008,23 @@ public class Browser extends RemoteObject {
     }
 
     public Browser assertQueryStringHas(String name, Object value) {
-        return (Browser) this.callFunc("assertQueryStringHas", new Object[]{name, value});
+        return (Browser) this.callFunc("assertQueryStringHas", new Object[]{name, value}, Browser.class);
     }
 
     public Browser assertQueryStringMissing(String name) {
-        return (Browser) this.callFunc("assertQueryStringMissing", new Object[]{name});
+        return (Browser) this.callFunc("assertQueryStringMissing", new Object[]{name}, Browser.class);
     }
 
     public Browser assertFragmentIs(String fragment) {
-        return (Browser) this.callFunc("assertFragmentIs", new Object[]{fragment});
+        return (Browser) this.callFunc("assertFragmentIs", new Object[]{fragment}, Browser.class);
     }
 
     public Browser assertFragmentBeginsWith(String fragment) {
-        return (Browser) this.callFunc("assertFragmentBeginsWith", new Object[]{fragment});
+        return (Browser) this.callFunc("assertFragmentBeginsWith", new Object[]{fragment}, Browser.class);
     }
 
     public Browser assertFragmentIsNot(String fragment) {
-        return (Browser) this.callFunc("assertFragmentIsNot", new Object[]{fragment});
+        return (Browser) this.callFunc("assertFragmentIsNot", new Object[]{fragment}, Browser.class);
     }
 
     public String resolver(Object selector) {
@@ -1028,15 +1032,15 @@ public class Browser extends RemoteObject {
     }
 
     public Browser waitForDialog() {
-        return (Browser) this.callFunc("waitForDialog", new Object[]{});
+        return (Browser) this.callFunc("waitForDialog", new Object[]{}, Browser.class);
     }
 
     public Browser assertDialogOpened(String message) {
-        return (Browser) this.callFunc("assertDialogOpened", new Object[]{message});
+        return (Browser) this.callFunc("assertDialogOpened", new Object[]{message}, Browser.class);
     }
 
     public Browser typeInDialog(String value) {
-        return (Browser) this.callFunc("typeInDialog", new Object[]{value});
+        return (Browser) this.callFunc("typeInDialog", new Object[]{value}, Browser.class);
     }
 
     public Browser acceptDialog() {
@@ -1044,15 +1048,15 @@ public class Browser extends RemoteObject {
     }
 
     public Browser acceptDialog(Object value) {
-        return (Browser) this.callFunc("acceptDialog", new Object[]{value});
+        return (Browser) this.callFunc("acceptDialog", new Object[]{value}, Browser.class);
     }
 
     public Browser dismissDialog() {
-        return (Browser) this.callFunc("dismissDialog", new Object[]{});
+        return (Browser) this.callFunc("dismissDialog", new Object[]{}, Browser.class);
     }
 
     public Browser mouseover(String selector) {
-        return (Browser) this.callFunc("mouseover", new Object[]{selector});
+        return (Browser) this.callFunc("mouseover", new Object[]{selector}, Browser.class);
     }
 
     public void isPage() {
@@ -1064,7 +1068,7 @@ public class Browser extends RemoteObject {
     }
 
     public Browser value(String selector, Object value) {
-        return (Browser) this.callFunc("value", new Object[]{selector, value});
+        return (Browser) this.callFunc("value", new Object[]{selector, value}, Browser.class);
     }
 
     public Browser keys(String selector, String keys) {
@@ -1086,4 +1090,36 @@ public class Browser extends RemoteObject {
    public Object[] evaluate(String[] pageFunction, Object[] args) {
        return (Object[]) this.callFunc("evaluate", new Object[]{pageFunction, args});
    }
+
+    public Browser batch(java.util.function.Consumer<Browser> calls) {
+        return this.batch(new Browser(this.id, this.type, this.represents, this.parent, this.context), calls);
+    }
+
+    public AsyncBrowser async() {
+        return new AsyncBrowser(this.id, this.type, this.represents, this, this.context);
+    }
+
+    public long screenshot(java.nio.file.Path target) {
+        return this.screenshot(target, Map.of());
+    }
+
+    public long screenshot(java.nio.file.Path target, Object options) {
+        return this.callFuncTo("screenshot", new Object[]{options}, target);
+    }
+
+    public long screenshot(java.nio.channels.WritableByteChannel target) {
+        return this.screenshot(target, Map.of());
+    }
+
+    public long screenshot(java.nio.channels.WritableByteChannel target, Object options) {
+        return this.callFuncTo("screenshot", new Object[]{options}, target);
+    }
+
+    public java.nio.ByteBuffer screenshotBuffer() {
+        return this.screenshotBuffer(Map.of());
+    }
+
+    public java.nio.ByteBuffer screenshotBuffer(Object options) {
+        return this.callFuncBuffer("screenshot", new Object[]{options});
+    }
 }
@@ -35,6 +35,14 @@ public class Context extends RemoteObject {
         return (Object[]) this.callFunc("getSnapshotsByType", new Object[]{type});
     }
 
+    public void testStarted() {
+        this.testStarted(Map.of());
+    }
+
+    public void testStarted(Map<String, Object> test) {
+        this.callFunc("testStarted", new Object[]{test});
+    }
+
     public void testFailed() {
         this.callFunc("testFailed", new Object[]{});
     }
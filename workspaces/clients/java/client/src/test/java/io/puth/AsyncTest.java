@@ -0,0 +1,26 @@
+package io.puth;
+
+import io.puth.client.remote.Browser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncTest extends BaseTest {
+    @Test
+    void test_async_calls_complete_with_browser() {
+        Browser result = browser.async().visit(playground())
+                .thenCompose(b -> b.async().assertSee("Puth's playground"))
+                .join();
+
+        assertSame(browser, result);
+    }
+
+    @Test
+    void test_async_values() {
+        String url = browser.async().visit(playground())
+                .thenCompose(b -> b.async().url())
+                .join();
+
+        assertEquals(playground(), url);
+    }
+}
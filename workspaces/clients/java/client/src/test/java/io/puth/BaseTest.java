@@ -1,18 +1,24 @@
 package io.puth;
 
+import io.puth.client.ChromeTraceRecorder;
 import io.puth.client.Context;
 import io.puth.client.remote.Browser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 
+import java.nio.file.Path;
 import java.util.Map;
 
 public class BaseTest {
-    private static final String PUTH_INSTANCE_URL = System.getenv().getOrDefault("PUTH_INSTANCE_URL", "http://127.0.0.1:7345");
+    static final String PUTH_INSTANCE_URL = System.getenv().getOrDefault("PUTH_INSTANCE_URL", "http://127.0.0.1:7345");
+    // set to write a Chrome trace per test, e.g. PUTH_TRACE_DIR=target/puth-traces
+    static final String PUTH_TRACE_DIR = System.getenv("PUTH_TRACE_DIR");
 
     Context context;
     Browser browser;
+    ChromeTraceRecorder trace;
+    String traceName;
 
     @BeforeEach
     void setUp(TestInfo testInfo) {
@@ -21,6 +27,11 @@ public class BaseTest {
                 "snapshot", false,
                 "debug", false
         ));
+        if (PUTH_TRACE_DIR != null) {
+            trace = new ChromeTraceRecorder(testInfo.getDisplayName());
+            traceName = getClass().getName() + "." + testInfo.getTestMethod().map(m -> m.getName()).orElse("test") + ".json";
+            context.addCallListener(trace);
+        }
         browser = context.createBrowserShim();
     }
 
@@ -32,6 +43,9 @@ public class BaseTest {
         if (context != null) {
             try { context.destroy(); } catch (Exception ignored) {}
         }
+        if (trace != null) {
+            trace.write(Path.of(PUTH_TRACE_DIR, traceName));
+        }
     }
 
     static String playground() {
@@ -0,0 +1,35 @@
+package io.puth;
+
+import io.puth.client.BatchException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchTest extends BaseTest {
+    @Test
+    void test_batch() {
+        browser.batch(b -> b.visit(playground())
+                        .click("#wait-for-missing-text-button")
+                        .waitUntilMissing("#wait-for-missing-text-item"))
+                .waitFor("#wait-for-missing-text-item");
+    }
+
+    @Test
+    void test_batch_reports_failed_call_index() {
+        BatchException exception = assertThrows(BatchException.class, () -> {
+            browser.batch(b -> b.setContent("<body><div></div></body>")
+                    .assertPresent("div")
+                    .assertMissing("div")
+                    .assertPresent("div"));
+        });
+
+        assertEquals(2, exception.getIndex());
+        assertEquals("assertMissing", exception.getFunction());
+        assertInstanceOf(AssertionError.class, exception.getCause());
+    }
+
+    @Test
+    void test_batch_rejects_non_fluent_calls() {
+        assertThrows(IllegalStateException.class, () -> browser.batch(b -> b.url()));
+    }
+}
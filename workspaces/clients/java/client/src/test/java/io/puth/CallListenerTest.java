@@ -0,0 +1,144 @@
+package io.puth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.puth.client.CallEvent;
+import io.puth.client.ChromeTraceRecorder;
+import io.puth.client.Context;
+import io.puth.client.LatencyRecorder;
+import io.puth.client.remote.Browser;
+import io.puth.client.testing.FakePuthServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallListenerTest {
+    @Test
+    void test_listener_receives_calls() {
+        try (FakePuthServer server = new FakePuthServer().withLatency(Duration.ofMillis(2), Duration.ZERO).start()) {
+            server.on("url", FakePuthServer.value("https://example.test/"));
+            server.on("assertSee", FakePuthServer.expectationFailed("Did not see expected text."));
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            List<CallEvent> events = new CopyOnWriteArrayList<>();
+            context.addCallListener(events::add);
+
+            Browser browser = context.createBrowserShim();
+            browser.url();
+            browser.async().visit("https://example.test/").join();
+            assertThrows(AssertionError.class, () -> browser.assertSee("text"));
+
+            assertEquals(List.of("createBrowserShim", "url", "visit", "assertSee"), events.stream().map(CallEvent::function).toList());
+
+            CallEvent url = events.get(1);
+            assertEquals("Browser", url.represents());
+            assertEquals(CallEvent.Outcome.SUCCESS, url.outcome());
+            assertTrue(url.requestBytes() > 0);
+            assertTrue(url.responseBytes() > 0);
+            assertNotNull(url.serverTime());
+            assertTrue(url.clientTime().compareTo(url.serverTime()) >= 0);
+
+            assertEquals(CallEvent.Outcome.FAILED, events.get(3).outcome());
+            assertInstanceOf(AssertionError.class, events.get(3).error());
+        }
+    }
+
+    @Test
+    void test_latency_recorder() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            LatencyRecorder recorder = new LatencyRecorder();
+            context.addCallListener(recorder);
+
+            Browser browser = context.createBrowserShim();
+            for (int i = 0; i < 10; i++) {
+                browser.visit("https://example.test/" + i);
+            }
+
+            LatencyRecorder.Summary visit = recorder.summaries().stream()
+                    .filter(summary -> summary.function().equals("Browser.visit"))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(10, visit.count());
+            assertTrue(visit.p50().compareTo(visit.p99()) <= 0);
+            assertTrue(visit.p99().compareTo(visit.max()) <= 0);
+            assertNotNull(visit.serverP50());
+            assertTrue(recorder.report().contains("Browser.visit"));
+        }
+    }
+
+    @Test
+    void test_chrome_trace(@TempDir Path directory) throws IOException {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("click", FakePuthServer.portalRequest("POST", "/login"));
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            context.setPortalRequestHandler(request -> new HashMap<>(Map.of("status", 204, "headers", Map.of(), "body", "")));
+            ChromeTraceRecorder trace = new ChromeTraceRecorder("test_chrome_trace");
+            context.addCallListener(trace);
+
+            Browser browser = context.createBrowserShim();
+            browser.visit("https://example.test/");
+            browser.click("button");
+            browser.waitForText("Welcome");
+
+            Path file = directory.resolve("trace.json");
+            trace.write(file);
+
+            JsonNode events = new ObjectMapper().readTree(Files.readAllBytes(file)).get("traceEvents");
+            List<String> slices = new CopyOnWriteArrayList<>();
+            for (JsonNode event : events) {
+                if (event.get("ph").asText().equals("X")) {
+                    slices.add(event.get("cat").asText() + " " + event.get("name").asText());
+                    assertTrue(event.get("dur").asLong() >= 0);
+                }
+            }
+
+            assertEquals(List.of(
+                    "call Context.createBrowserShim",
+                    "call Browser.visit",
+                    "portal POST /login",
+                    "call Browser.click",
+                    "wait Browser.waitForText"
+            ), slices);
+        }
+    }
+
+    @Test
+    void test_flight_events_above_threshold(@TempDir Path directory) throws IOException {
+        try (FakePuthServer server = new FakePuthServer().withLatency(Duration.ofMillis(30), Duration.ZERO).start();
+             Recording recording = new Recording()) {
+            recording.enable("io.puth.RemoteCall").withThreshold(Duration.ofMillis(10));
+            recording.start();
+
+            Browser browser = new Context(server.getBaseUrl(), Map.of()).createBrowserShim();
+            browser.click("#a");
+
+            recording.stop();
+            Path file = directory.resolve("calls.jfr");
+            recording.dump(file);
+
+            // the duration is known when the threshold is checked, calls slower than it are recorded
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("io.puth.RemoteCall"))
+                    .toList();
+            assertEquals(List.of("createBrowserShim", "click"), events.stream().map(event -> event.getString("function")).toList());
+            for (RecordedEvent event : events) {
+                assertTrue(event.getDuration().compareTo(Duration.ofMillis(30)) >= 0, "took " + event.getDuration());
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.puth;
+
+import io.puth.client.ContextPool;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContextPoolTest {
+    @Test
+    void test_released_context_is_reused_and_reset() {
+        try (ContextPool pool = new ContextPool(BaseTest.PUTH_INSTANCE_URL, Map.of("snapshot", false), 1)) {
+            ContextPool.Lease first = pool.acquire();
+            first.browser()
+                    .visit(BaseTest.playground())
+                    .evaluate("document.cookie = 'pooled=1'; localStorage.setItem('pooled', '1')");
+            pool.release(first);
+
+            ContextPool.Lease second = pool.acquire();
+            assertSame(first.context(), second.context());
+            assertEquals("about:blank", second.browser().url());
+
+            second.browser().visit(BaseTest.playground());
+            assertNull(second.browser().getCookieByName("pooled"));
+            assertNull(second.browser().evaluate("localStorage.getItem('pooled')"));
+            pool.release(second);
+        }
+    }
+
+    @Test
+    void test_statuses_are_reported_per_lease() {
+        List<String> reported = new CopyOnWriteArrayList<>();
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("testStarted", packet -> {
+                reported.add("started " + ((Map<?, ?>) ((List<?>) packet.get("parameters")).get(0)).get("name"));
+                return FakePuthServer.self();
+            });
+            server.on("testSuccess", packet -> {
+                reported.add("success");
+                return FakePuthServer.self();
+            });
+            server.on("testFailed", packet -> {
+                reported.add("failed");
+                return FakePuthServer.self();
+            });
+            server.on("destroy", packet -> {
+                reported.add("destroyed");
+                return FakePuthServer.value(true);
+            });
+
+            try (ContextPool pool = new ContextPool(server.getBaseUrl(), Map.of(), 1)) {
+                ContextPool.Lease first = pool.acquire(Map.of("name", "first", "group", "ContextPoolTest"));
+                pool.release(first, false);
+
+                ContextPool.Lease second = pool.acquire(Map.of("name", "second", "group", "ContextPoolTest"));
+                assertSame(first.context(), second.context());
+                pool.release(second, true);
+
+                // the failed test's context was destroyed, not returned
+                ContextPool.Lease third = pool.acquire(Map.of("name", "third", "group", "ContextPoolTest"));
+                assertNotSame(second.context(), third.context());
+                pool.release(third);
+            }
+
+            assertEquals(List.of(
+                    "started first", "success",
+                    "started second", "failed", "destroyed",
+                    "started third", "success", "destroyed"
+            ), reported);
+            assertEquals(2, server.getRequestCount("/context"));
+        }
+    }
+}
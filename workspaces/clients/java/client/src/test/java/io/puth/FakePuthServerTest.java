@@ -0,0 +1,274 @@
+package io.puth;
+
+import io.puth.client.Context;
+import io.puth.client.PortalHeaders;
+import io.puth.client.PortalRequest;
+import io.puth.client.PortalResponse;
+import io.puth.client.RemoteObject;
+import io.puth.client.remote.Browser;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FakePuthServerTest {
+    /**
+     * Answers portal requests once {@code count} of them are outstanding at the same time, or after 5 seconds if they
+     * are handled one after another.
+     */
+    private static class GatedHandler implements RemoteObject.AsyncPortalRequestHandler {
+        final AtomicInteger outstanding = new AtomicInteger();
+        final AtomicInteger maxOutstanding = new AtomicInteger();
+        private final int count;
+        private final CompletableFuture<Void> allStarted = new CompletableFuture<Void>().completeOnTimeout(null, 5, TimeUnit.SECONDS);
+
+        GatedHandler(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public CompletableFuture<PortalResponse> handlePortalRequestAsync(PortalRequest request) {
+            int current = outstanding.incrementAndGet();
+            maxOutstanding.accumulateAndGet(current, Math::max);
+            if (current == count) allStarted.complete(null);
+            return allStarted.thenApply(v -> {
+                outstanding.decrementAndGet();
+                return PortalResponse.of(200, Map.of(), request.path().getBytes(StandardCharsets.UTF_8));
+            });
+        }
+    }
+
+    @Test
+    void test_scripted_calls() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("url", FakePuthServer.value("https://example.test/"));
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.visit("https://example.test/"));
+            assertEquals("https://example.test/", browser.url());
+            assertTrue(context.destroy());
+            assertEquals(4, server.getRequestCount("/context/call"));
+        }
+    }
+
+    @Test
+    void test_scripted_failures() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("assertSee", FakePuthServer.expectationFailed("Did not see expected text."));
+            server.on("click", FakePuthServer.error("No element found."));
+
+            Browser browser = new Context(server.getBaseUrl(), Map.of()).createBrowserShim();
+
+            assertThrows(AssertionError.class, () -> browser.assertSee("text"));
+            assertThrows(RuntimeException.class, () -> browser.click("#missing"));
+        }
+    }
+
+    @Test
+    void test_batched_calls() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            Browser browser = new Context(server.getBaseUrl(), Map.of()).createBrowserShim();
+            Function<Browser, Browser> open = b -> b.visit("https://example.test/");
+
+            assertSame(browser, browser.batch(b -> open.apply(b).click("#a").type("#b", "text")));
+            assertEquals(1, server.getRequestCount("/context/call/batch"));
+            assertThrows(IllegalStateException.class, () -> browser.batch(b -> b.url()));
+            // these return another browser, later calls must not be queued on this one
+            assertThrows(IllegalStateException.class, () -> browser.batch(b -> b.withinIframe("#frame").click("#a")));
+            assertThrows(IllegalStateException.class, () -> browser.batch(b -> b.clone().click("#a")));
+            assertEquals(1, server.getRequestCount("/context/call/batch"));
+        }
+    }
+
+    @Test
+    void test_portal_requests() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("visit", FakePuthServer.portalRequest("GET", "/login"));
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            context.setPortalRequestHandler(request -> new HashMap<>(Map.of("status", 200, "headers", Map.of(), "body", request.get("path"))));
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.visit("https://example.test/login"));
+            List<Map<String, Object>> responses = server.getPortalResponses();
+            assertEquals(1, responses.size());
+            assertEquals("/login", responses.get(0).get("body"));
+        }
+    }
+
+    @Test
+    void test_binary_portal_bodies() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("visit", FakePuthServer.portalRequest("GET", "/logo.png"));
+
+            byte[] png = new byte[256];
+            for (int i = 0; i < png.length; i++) png[i] = (byte) i;
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            context.setPortalRequestHandler(request -> new HashMap<>(Map.of("status", 200, "headers", Map.of("Content-Type", List.of("image/png")), "body", png)));
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.visit("https://example.test/"));
+            assertSame(browser, browser.async().visit("https://example.test/").join());
+
+            assertEquals(2, server.getRequestCount("/portal/response/binary"));
+            for (Map<String, Object> response : server.getPortalResponses()) {
+                assertArrayEquals(png, (byte[]) response.get("body"));
+                assertEquals(200, response.get("status"));
+                assertNotNull(response.get("psuri"));
+            }
+        }
+    }
+
+    @Test
+    void test_typed_portal_bodies() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("visit", FakePuthServer.portalRequest("GET", "/app.js"));
+
+            // a slice of a larger buffer is sent as is, without copying it into an array first
+            ByteBuffer script = ByteBuffer.wrap("//--console.log(1)--//".getBytes(StandardCharsets.UTF_8), 4, 14).slice();
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            context.setAsyncPortalRequestHandler(RemoteObject.AsyncPortalRequestHandler.blocking(request -> {
+                assertEquals("GET", request.method());
+                assertFalse(request.body().hasRemaining());
+                assertNull(request.headers().first("content-type"));
+                return new PortalResponse(200, PortalHeaders.of(Map.of("Content-Type", "text/javascript")), script);
+            }));
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.visit("https://example.test/"));
+
+            Map<String, Object> response = server.getPortalResponses().get(0);
+            assertArrayEquals("console.log(1)".getBytes(StandardCharsets.UTF_8), (byte[]) response.get("body"));
+            assertEquals(Map.of("Content-Type", "text/javascript"), response.get("headers"));
+            assertEquals(14, script.remaining());
+        }
+    }
+
+    @Test
+    void test_concurrent_portal_requests() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            List<String> paths = IntStream.range(0, 8).mapToObj(i -> "/asset-" + i).toList();
+            server.on("visit", FakePuthServer.portalRequests(paths, FakePuthServer.self()));
+
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch allStarted = new CountDownLatch(paths.size());
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            context.setPortalConcurrency(8);
+            context.setPortalRequestHandler(request -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                allStarted.countDown();
+                try {
+                    // holds every request until all of them run, gives up if they are handled one after another
+                    allStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return new HashMap<>(Map.of("status", 200, "headers", Map.of(), "body", request.get("path")));
+            });
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.visit("https://example.test/"));
+
+            // responses are posted in queue order, the handlers ran in parallel
+            assertEquals(paths, server.getPortalResponses().stream().map(response -> response.get("body")).toList());
+            assertEquals(8, maxRunning.get());
+
+            assertSame(browser, browser.async().visit("https://example.test/").join());
+            assertEquals(16, server.getPortalResponses().size());
+        }
+    }
+
+    @Test
+    void test_async_portal_handler() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            List<String> paths = IntStream.range(0, 8).mapToObj(i -> "/asset-" + i).toList();
+            server.on("visit", FakePuthServer.portalRequests(paths, FakePuthServer.self()));
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            // two dispatcher threads, but async responses do not hold them
+            context.setPortalConcurrency(2);
+            GatedHandler handler = new GatedHandler(paths.size());
+            context.setAsyncPortalRequestHandler(handler);
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.async().visit("https://example.test/").join());
+
+            assertEquals(paths, server.getPortalResponses().stream().map(response -> new String((byte[]) response.get("body"), StandardCharsets.UTF_8)).toList());
+            assertEquals(8, handler.maxOutstanding.get());
+        }
+    }
+
+    @Test
+    void test_async_portal_handler_without_pool() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            List<String> paths = IntStream.range(0, 8).mapToObj(i -> "/asset-" + i).toList();
+            server.on("visit", FakePuthServer.portalRequests(paths, FakePuthServer.self()));
+
+            // default portal concurrency, pending requests are started anyway
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            GatedHandler handler = new GatedHandler(paths.size());
+            context.setAsyncPortalRequestHandler(handler);
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.visit("https://example.test/"));
+
+            assertEquals(paths, server.getPortalResponses().stream().map(response -> new String((byte[]) response.get("body"), StandardCharsets.UTF_8)).toList());
+            assertEquals(8, handler.maxOutstanding.get());
+        }
+    }
+
+    @Test
+    void test_latency_with_concurrent_calls() {
+        try (FakePuthServer server = new FakePuthServer().withLatency(Duration.ofMillis(20), Duration.ofMillis(5)).start()) {
+            Browser browser = new Context(server.getBaseUrl(), Map.of()).createBrowserShim();
+
+            long start = System.nanoTime();
+            CompletableFuture.allOf(IntStream.range(0, 20)
+                    .mapToObj(i -> browser.async().click("#item-" + i))
+                    .toArray(CompletableFuture[]::new)).join();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            assertEquals(21, server.getRequestCount("/context/call"));
+            // every call waits at least the applied latency, but they overlap instead of running one after another
+            assertTrue(elapsed.compareTo(Duration.ofMillis(20)) >= 0, "took " + elapsed);
+            assertTrue(server.getMaxInFlight() > 1, "max in flight " + server.getMaxInFlight());
+        }
+    }
+
+    @Test
+    void test_contexts_share_http_client() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            Context first = new Context(server.getBaseUrl(), Map.of());
+            Context second = new Context(server.getBaseUrl(), Map.of());
+            Context tuned = new Context(server.getBaseUrl(), Map.of("connectTimeout", 1000));
+
+            assertSame(first.getClient(), second.getClient());
+            assertNotSame(first.getClient(), tuned.getClient());
+            assertEquals(Duration.ofSeconds(1), tuned.getClient().connectTimeout().orElseThrow());
+
+            assertTrue(first.destroy());
+            assertSame(first.getClient(), new Context(server.getBaseUrl(), Map.of()).getClient());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.puth;
+
+import io.puth.client.Context;
+import io.puth.client.HttpClients;
+import io.puth.client.VirtualThreads;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpClientsTest {
+    private static final String POOL_SIZE = "jdk.httpclient.connectionPoolSize";
+
+    @Test
+    void test_clients_are_shared_per_base_url_and_settings() {
+        HttpClients.Settings settings = HttpClients.Settings.DEFAULT.withConnectTimeout(Duration.ofSeconds(3));
+
+        HttpClient client = HttpClients.get("http://shared.test", settings);
+
+        assertSame(client, HttpClients.get("http://shared.test", settings));
+        // equal settings, not the same instance
+        assertSame(client, HttpClients.get("http://shared.test", HttpClients.Settings.DEFAULT.withConnectTimeout(Duration.ofSeconds(3))));
+        assertNotSame(client, HttpClients.get("http://other.test", settings));
+        assertNotSame(client, HttpClients.get("http://shared.test", settings.withVersion(HttpClient.Version.HTTP_2)));
+        assertNotSame(client, HttpClients.get("http://shared.test", settings.withExecutor(VirtualThreads.executor())));
+
+        assertEquals(HttpClient.Version.HTTP_2, HttpClients.get("http://shared.test", settings.withVersion(HttpClient.Version.HTTP_2)).version());
+        assertEquals(Duration.ofSeconds(3), client.connectTimeout().orElseThrow());
+    }
+
+    @Test
+    void test_context_options() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            Context plain = new Context(server.getBaseUrl(), Map.of());
+            Context http2 = new Context(server.getBaseUrl(), Map.of("httpVersion", "HTTP_2", "virtualThreads", true));
+
+            assertSame(HttpClients.get(server.getBaseUrl()), plain.getClient());
+            assertSame(HttpClients.get(server.getBaseUrl(), HttpClients.getSettings().withVersion(HttpClient.Version.HTTP_2).withExecutor(VirtualThreads.executor())), http2.getClient());
+            assertSame(http2.getClient(), new Context(server.getBaseUrl(), Map.of("virtualThreads", true, "httpVersion", "HTTP_2")).getClient());
+        }
+    }
+
+    @Test
+    void test_connection_pool_size_is_set_once() {
+        String previous = System.clearProperty(POOL_SIZE);
+        try {
+            HttpClients.get("http://pool.test", HttpClients.Settings.DEFAULT);
+            assertNull(System.getProperty(POOL_SIZE));
+
+            HttpClients.get("http://pool.test", HttpClients.Settings.DEFAULT.withConnectionPoolSize(7));
+            assertEquals("7", System.getProperty(POOL_SIZE));
+
+            // the JDK reads it once, later clients do not change it
+            HttpClients.get("http://pool.test", HttpClients.Settings.DEFAULT.withConnectionPoolSize(9));
+            HttpClients.get("http://other-pool.test", HttpClients.Settings.DEFAULT.withConnectionPoolSize(11));
+            assertEquals("7", System.getProperty(POOL_SIZE));
+        } finally {
+            if (previous == null) {
+                System.clearProperty(POOL_SIZE);
+            } else {
+                System.setProperty(POOL_SIZE, previous);
+            }
+        }
+    }
+
+    @Test
+    void test_explicit_property_wins() {
+        String previous = System.setProperty(POOL_SIZE, "3");
+        try {
+            HttpClients.get("http://explicit.test", HttpClients.Settings.DEFAULT.withConnectionPoolSize(5));
+            assertEquals("3", System.getProperty(POOL_SIZE));
+        } finally {
+            if (previous == null) {
+                System.clearProperty(POOL_SIZE);
+            } else {
+                System.setProperty(POOL_SIZE, previous);
+            }
+        }
+    }
+}
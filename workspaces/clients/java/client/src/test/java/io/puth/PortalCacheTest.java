@@ -0,0 +1,116 @@
+package io.puth;
+
+import io.puth.client.PortalCache;
+import io.puth.client.PortalRequest;
+import io.puth.client.PortalResponse;
+import io.puth.client.RemoteObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PortalCacheTest {
+    private final List<PortalRequest> requests = new ArrayList<>();
+
+    private RemoteObject.AsyncPortalRequestHandler app(Map<String, Object> headers, int size) {
+        return RemoteObject.AsyncPortalRequestHandler.blocking(request -> {
+            requests.add(request);
+            String etag = request.headers().first("If-None-Match");
+            if (etag != null && etag.equals(headers.get("ETag"))) {
+                return PortalResponse.of(304, headers, new byte[0]);
+            }
+            return PortalResponse.of(200, headers, new byte[size]);
+        });
+    }
+
+    private static PortalRequest get(String path) {
+        return PortalRequest.of(Map.of("psuri", "1", "method", "GET", "path", path, "headers", Map.of("Accept", "text/css")));
+    }
+
+    private static PortalRequest get(String origin, String path) {
+        return PortalRequest.of(Map.of("psuri", "1", "method", "GET", "url", origin + path, "path", path, "headers", Map.of()));
+    }
+
+    private static PortalResponse send(RemoteObject.AsyncPortalRequestHandler handler, PortalRequest request) {
+        return handler.handlePortalRequestAsync(request).toCompletableFuture().join();
+    }
+
+    @Test
+    void test_max_age_is_served_from_cache() {
+        PortalCache cache = new PortalCache(1024);
+        RemoteObject.AsyncPortalRequestHandler handler = cache.wrap(app(Map.of("Cache-Control", "public, max-age=3600"), 100));
+
+        assertEquals(200, send(handler, get("/app.css")).status());
+        PortalResponse cached = send(handler, get("/app.css"));
+
+        assertEquals(200, cached.status());
+        assertEquals(100, cached.body().remaining());
+        assertEquals(1, requests.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(100, cache.getSize());
+    }
+
+    @Test
+    void test_etag_is_revalidated() {
+        PortalCache cache = new PortalCache(1024);
+        RemoteObject.AsyncPortalRequestHandler handler = cache.wrap(app(Map.of("Cache-Control", "no-cache", "ETag", "\"v1\""), 100));
+
+        send(handler, get("/app.js"));
+        PortalResponse revalidated = send(handler, get("/app.js"));
+
+        assertEquals(200, revalidated.status());
+        assertEquals(100, revalidated.body().remaining());
+        assertEquals(2, requests.size());
+        assertEquals("\"v1\"", requests.get(1).headers().first("If-None-Match"));
+        assertEquals(1, cache.getRevalidationCount());
+    }
+
+    @Test
+    void test_uncacheable_responses_are_not_stored() {
+        PortalCache cache = new PortalCache(1024);
+        send(cache.wrap(app(Map.of("Cache-Control", "no-store", "ETag", "\"v1\""), 100)), get("/a"));
+        send(cache.wrap(app(Map.of(), 100)), get("/b"));
+        send(cache.wrap(app(Map.of("Cache-Control", "max-age=60", "Set-Cookie", "session=1"), 100)), get("/login"));
+        send(cache.wrap(app(Map.of("Cache-Control", "max-age=60"), 100)),
+                PortalRequest.of(Map.of("method", "POST", "path", "/c", "headers", Map.of())));
+
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void test_least_recently_used_are_evicted() {
+        PortalCache cache = new PortalCache(250);
+        RemoteObject.AsyncPortalRequestHandler handler = cache.wrap(app(Map.of("Cache-Control", "max-age=3600"), 100));
+
+        send(handler, get("/a"));
+        send(handler, get("/b"));
+        send(handler, get("/a"));
+        send(handler, get("/c"));
+        assertEquals(200, cache.getSize());
+
+        requests.clear();
+        send(handler, get("/a"));
+        send(handler, get("/c"));
+        assertTrue(requests.isEmpty());
+
+        send(handler, get("/b"));
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void test_origins_are_cached_separately() {
+        PortalCache cache = new PortalCache(1024);
+        RemoteObject.AsyncPortalRequestHandler handler = cache.wrap(app(Map.of("Cache-Control", "max-age=3600"), 100));
+
+        send(handler, get("https://a.example.test", "/app.css"));
+        send(handler, get("https://b.example.test", "/app.css"));
+        send(handler, get("https://a.example.test", "/app.css"));
+
+        assertEquals(2, requests.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(200, cache.getSize());
+    }
+}
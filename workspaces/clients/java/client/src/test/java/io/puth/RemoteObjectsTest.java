@@ -0,0 +1,108 @@
+package io.puth;
+
+import io.puth.client.Context;
+import io.puth.client.RemoteObject;
+import io.puth.client.RemoteObjects;
+import io.puth.client.remote.Browser;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RemoteObjectsTest {
+    public static class Element extends RemoteObject {
+        public Element(String id, String type, String represents, RemoteObject parent, Context context) {
+            super(id, type, represents, parent, context);
+        }
+    }
+
+    private final Logger logger = Logger.getLogger(RemoteObjects.class.getName());
+    private final List<String> warnings = new CopyOnWriteArrayList<>();
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            warnings.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private FakePuthServer server;
+    private Browser browser;
+
+    @BeforeEach
+    void setUp() {
+        logger.addHandler(handler);
+        server = new FakePuthServer().start();
+        browser = new Context(server.getBaseUrl(), Map.of()).createBrowserShim();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        logger.removeHandler(handler);
+    }
+
+    @Test
+    void test_known_types() {
+        server.on("find", FakePuthServer.object("Browser"));
+        server.on("_waitFor", FakePuthServer.objects("Browser", 3));
+
+        Browser found = assertInstanceOf(Browser.class, browser.find("#a"));
+        assertNotEquals(browser.getId(), found.getId());
+        assertInstanceOf(Browser.class, browser.find("#b"));
+        assertEquals(3, assertInstanceOf(Browser[].class, browser._waitFor("#c")).length);
+        assertEquals(List.of(), warnings);
+    }
+
+    @Test
+    void test_unknown_types_are_cached() {
+        String represents = "Unknown" + UUID.randomUUID().toString().replace("-", "");
+        server.on("find", FakePuthServer.object(represents));
+
+        Object first = browser.find("#a");
+        Object second = browser.find("#b");
+
+        assertEquals(RemoteObject.class, first.getClass());
+        assertEquals(RemoteObject.class, second.getClass());
+        assertEquals(represents, ((RemoteObject) second).getRepresents());
+        // the failed lookup is remembered, it is neither repeated nor logged again
+        assertEquals(1, warnings.size(), warnings.toString());
+        assertTrue(warnings.get(0).contains(represents));
+
+        assertEquals(RemoteObject.class, RemoteObjects.create("id", "GenericObject", null, browser, null).getClass());
+    }
+
+    @Test
+    void test_register() {
+        String represents = "ElementHandle" + UUID.randomUUID().toString().replace("-", "");
+        server.on("find", FakePuthServer.object(represents));
+
+        assertEquals(RemoteObject.class, browser.find("#a").getClass());
+
+        // replaces the cached fallback
+        RemoteObjects.register(represents, Element::new);
+        Element element = assertInstanceOf(Element.class, browser.find("#b"));
+        assertEquals(represents, element.getRepresents());
+        assertEquals("GenericObject", element.getType());
+
+        server.on("_waitFor", FakePuthServer.objects(represents, 2));
+        assertInstanceOf(Element[].class, browser._waitFor("#c"));
+    }
+}
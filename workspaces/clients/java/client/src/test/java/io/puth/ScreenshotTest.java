@@ -0,0 +1,36 @@
+package io.puth;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScreenshotTest extends BaseTest {
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G'};
+
+    @Test
+    void test_screenshot_to_path(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("playground.png");
+        long written = browser.visit(playground()).screenshot(file);
+
+        assertEquals(Files.size(file), written);
+        byte[] signature = new byte[4];
+        System.arraycopy(Files.readAllBytes(file), 0, signature, 0, 4);
+        assertArrayEquals(PNG_SIGNATURE, signature);
+    }
+
+    @Test
+    void test_screenshot_buffer() {
+        ByteBuffer buffer = browser.visit(playground()).screenshotBuffer();
+
+        assertTrue(buffer.isDirect());
+        byte[] signature = new byte[4];
+        buffer.get(signature);
+        assertArrayEquals(PNG_SIGNATURE, signature);
+    }
+}
@@ -0,0 +1,102 @@
+package io.puth;
+
+import io.puth.client.Context;
+import io.puth.client.HttpTransport;
+import io.puth.client.Transport;
+import io.puth.client.WebSocketTransport;
+import io.puth.client.remote.Browser;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransportTest {
+    /**
+     * Records the requests passed to the transport it wraps.
+     */
+    private static class RecordingTransport implements Transport {
+        final List<String> requests = new CopyOnWriteArrayList<>();
+        final Transport transport;
+        boolean closed = false;
+
+        RecordingTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        @Override
+        public Response send(Request request) throws Exception {
+            requests.add(request.method() + " " + request.path());
+            return transport.send(request);
+        }
+
+        @Override
+        public CompletableFuture<Response> sendAsync(Request request) {
+            requests.add("async " + request.method() + " " + request.path());
+            return transport.sendAsync(request);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            transport.close();
+        }
+    }
+
+    @Test
+    void test_custom_transport() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("url", FakePuthServer.value("https://example.test/"));
+            server.onProperty("title", "Example");
+            server.on("visit", FakePuthServer.portalRequest("GET", "/logo.png"));
+
+            RecordingTransport transport = new RecordingTransport(new HttpTransport(server.getBaseUrl()));
+            Context context = new Context(server.getBaseUrl(), Map.of(), transport);
+            context.setPortalRequestHandler(request -> new HashMap<>(Map.of("status", 200, "headers", Map.of(), "body", new byte[]{1, 2})));
+            Browser browser = context.createBrowserShim();
+
+            assertSame(transport, context.getTransport());
+            assertEquals("https://example.test/", browser.url());
+            assertEquals("Example", browser.getPropertyValue("title"));
+            assertSame(browser, browser.async().visit("https://example.test/").join());
+            assertTrue(context.destroy());
+
+            assertEquals(List.of(
+                    "POST /context",
+                    "PATCH /context/call",
+                    "PATCH /context/call",
+                    "PATCH /context/get",
+                    "async PATCH /context/call",
+                    "async PATCH /portal/response/binary",
+                    "PATCH /context/call"
+            ), transport.requests);
+            assertTrue(transport.closed);
+            // everything went through the transport
+            assertEquals(1, server.getRequestCount("/portal/response/binary"));
+            assertEquals(4, server.getRequestCount("/context/call"));
+        }
+    }
+
+    @Test
+    void test_transport_option() {
+        try (FakePuthServer server = new FakePuthServer().withWebSocket().start()) {
+            Context http = new Context(server.getBaseUrl(), Map.of());
+            Context webSocket = new Context(server.getBaseUrl(), Map.of("transport", "websocket"));
+
+            assertInstanceOf(HttpTransport.class, http.getTransport());
+            assertInstanceOf(WebSocketTransport.class, webSocket.getTransport());
+            // unknown values use the default
+            assertInstanceOf(HttpTransport.class, new Context(server.getBaseUrl(), Map.of("transport", "carrier-pigeon")).getTransport());
+
+            assertNotNull(http.createBrowserShim());
+            assertNotNull(webSocket.createBrowserShim());
+            assertEquals(1, server.getRequestCount("/context/call"));
+            assertEquals(1, server.getWebSocketMessageCount());
+        }
+    }
+}
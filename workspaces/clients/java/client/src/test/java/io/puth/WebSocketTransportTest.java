@@ -0,0 +1,78 @@
+package io.puth;
+
+import io.puth.client.Context;
+import io.puth.client.WebSocketTransport;
+import io.puth.client.remote.Browser;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WebSocketTransportTest {
+    private static final Map<String, Object> WEBSOCKET = Map.of("transport", "websocket");
+
+    @Test
+    void test_calls_over_websocket() {
+        try (FakePuthServer server = new FakePuthServer().withWebSocket().start()) {
+            Context context = new Context(server.getBaseUrl(), WEBSOCKET);
+            Browser browser = context.createBrowserShim();
+
+            assertInstanceOf(WebSocketTransport.class, context.getTransport());
+            assertSame(browser, browser.click("#a"));
+            assertEquals(2, server.getWebSocketMessageCount());
+            assertEquals(0, server.getRequestCount("/context/call"));
+            // context creation is not carried by the socket
+            assertEquals(1, server.getRequestCount("/context"));
+        }
+    }
+
+    @Test
+    void test_responses_are_matched_by_request_id() {
+        // jitter answers the calls out of order
+        try (FakePuthServer server = new FakePuthServer().withWebSocket().withLatency(Duration.ZERO, Duration.ofMillis(20)).start()) {
+            server.on("getCookieByName", packet -> FakePuthServer.value(((List<?>) packet.get("parameters")).get(0)));
+            Browser browser = new Context(server.getBaseUrl(), WEBSOCKET).createBrowserShim();
+
+            List<String> names = IntStream.range(0, 20).mapToObj(i -> "cookie-" + i).toList();
+            List<CompletableFuture<Object>> values = names.stream().map(name -> browser.async().getCookieByName(name)).toList();
+
+            assertEquals(names, values.stream().map(CompletableFuture::join).toList());
+            assertEquals(21, server.getWebSocketMessageCount());
+            assertTrue(server.getMaxInFlight() > 1, "max in flight " + server.getMaxInFlight());
+        }
+    }
+
+    @Test
+    void test_falls_back_to_http_when_socket_closes() {
+        try (FakePuthServer server = new FakePuthServer().withWebSocket().start()) {
+            Browser browser = new Context(server.getBaseUrl(), WEBSOCKET).createBrowserShim();
+
+            server.closeWebSockets();
+            assertSame(browser, browser.click("#a"));
+            assertSame(browser, browser.async().click("#b").join());
+
+            assertEquals(1, server.getWebSocketMessageCount());
+            assertEquals(2, server.getRequestCount("/context/call"));
+        }
+    }
+
+    @Test
+    void test_falls_back_to_http_when_connect_fails() {
+        // without WebSocket support the upgrade is answered with 404
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            Context context = new Context(server.getBaseUrl(), WEBSOCKET);
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.click("#a"));
+            assertEquals(1, server.getRequestCount("/context/websocket"));
+            assertEquals(2, server.getRequestCount("/context/call"));
+            assertTrue(context.destroy());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.puth.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.puth.client.remote.Browser;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenericDecoderTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FakePuthServer server;
+    private RemoteObject on;
+
+    @BeforeEach
+    void setUp() {
+        server = new FakePuthServer().start();
+        Context context = new Context(server.getBaseUrl(), Map.of());
+        on = new RemoteObject("page", "GenericObject", "Page", null, context);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private Object decode(String body) throws IOException {
+        return GenericDecoder.decode(objectMapper.createParser(body), on);
+    }
+
+    private Object parse(Object decoded) throws Exception {
+        assertInstanceOf(GenericDecoder.Fallback.class, decoded);
+        return on.parseGeneric(((GenericDecoder.Fallback) decoded).generic(), new Object[]{"call"}, (error, args) -> {
+            throw new RuntimeException(String.valueOf(error.get("message")));
+        });
+    }
+
+    @Test
+    void test_empty_body() throws Exception {
+        assertSame(on, decode("{}"));
+        assertSame(on, decode("{\"meta\":{\"assertions\":1}}"));
+        assertThrows(IOException.class, () -> decode(""));
+        assertThrows(IOException.class, () -> decode("[]"));
+    }
+
+    @Test
+    void test_field_order() throws Exception {
+        Object typeFirst = decode("{\"type\":\"GenericObject\",\"id\":\"b1\",\"represents\":\"Browser\"}");
+        Object typeLast = decode("{\"represents\":\"Browser\",\"id\":\"b1\",\"type\":\"GenericObject\"}");
+
+        assertInstanceOf(Browser.class, typeFirst);
+        assertInstanceOf(Browser.class, typeLast);
+        assertEquals("b1", ((RemoteObject) typeLast).getId());
+
+        assertEquals(42, decode("{\"value\":42,\"type\":\"GenericValue\"}"));
+        assertNull(decode("{\"meta\":{},\"type\":\"GenericNull\"}"));
+
+        // the value is read before its type is known, the fallback resolves the objects
+        Object objects = parse(decode("{\"value\":[{\"id\":\"b1\",\"type\":\"GenericObject\",\"represents\":\"Browser\"}],\"type\":\"GenericObjects\"}"));
+        assertInstanceOf(Browser[].class, objects);
+        assertEquals("b1", ((Browser[]) objects)[0].getId());
+    }
+
+    @Test
+    void test_expectation_failed() throws Exception {
+        Object decoded = decode("{\"type\":\"ExpectationFailed\",\"value\":{\"message\":\"Did not see expected text.\"},\"meta\":{}}");
+
+        assertInstanceOf(GenericDecoder.Fallback.class, decoded);
+        assertEquals("ExpectationFailed", ((GenericDecoder.Fallback) decoded).generic().get("type"));
+        AssertionError error = assertThrows(AssertionError.class, () -> parse(decoded));
+        assertEquals("Did not see expected text.", error.getMessage());
+    }
+
+    @Test
+    void test_objects_with_nulls() throws Exception {
+        String objects = "[null,{\"id\":\"b1\",\"type\":\"GenericObject\",\"represents\":\"Browser\",\"meta\":{\"a\":[1]}},"
+                + "42,\"text\",[{\"id\":\"x\"}],null,{\"id\":\"b2\",\"type\":\"GenericObject\",\"represents\":\"Browser\"}]";
+
+        Object typeFirst = decode("{\"type\":\"GenericObjects\",\"value\":" + objects + ",\"meta\":{}}");
+        Object typeLast = parse(decode("{\"value\":" + objects + ",\"type\":\"GenericObjects\"}"));
+
+        for (Object decoded : List.of(typeFirst, typeLast)) {
+            Browser[] browsers = assertInstanceOf(Browser[].class, decoded);
+            assertEquals(4, browsers.length);
+            assertNull(browsers[0]);
+            assertEquals("b1", browsers[1].getId());
+            assertNull(browsers[2]);
+            assertEquals("b2", browsers[3].getId());
+        }
+
+        RemoteObject[] onlyNulls = assertInstanceOf(RemoteObject[].class, decode("{\"type\":\"GenericObjects\",\"value\":[null,null]}"));
+        assertArrayEquals(new RemoteObject[2], onlyNulls);
+        assertEquals(0, ((RemoteObject[]) decode("{\"type\":\"GenericObjects\",\"value\":[]}")).length);
+    }
+
+    @Test
+    void test_fields_after_objects_are_read() throws Exception {
+        // the array is consumed up to its end, a trailing error is not lost
+        Object decoded = decode("{\"type\":\"GenericObjects\",\"value\":[null,1,{\"id\":\"b1\",\"type\":\"GenericObject\",\"represents\":\"Browser\"}],\"message\":\"boom\"}");
+
+        Map<String, Object> generic = assertInstanceOf(GenericDecoder.Fallback.class, decoded).generic();
+        assertEquals("boom", generic.get("message"));
+        assertEquals("b1", ((Browser[]) generic.get("value"))[1].getId());
+    }
+
+    @Test
+    void test_nested_values() throws Exception {
+        Object value = decode("{\"type\":\"GenericValue\",\"value\":{\"a\":[1,{\"b\":null}],\"c\":{\"d\":\"e\"}},\"meta\":{\"x\":[{}]}}");
+
+        Map<String, Object> nullable = new HashMap<>();
+        nullable.put("b", null);
+        assertEquals(Map.of("a", List.of(1, nullable), "c", Map.of("d", "e")), value);
+        assertEquals(List.of(List.of(1, 2), List.of()), decode("{\"type\":\"GenericValues\",\"value\":[[1,2],[]]}"));
+        assertArrayEquals(new Object[]{"x", null}, (Object[]) parse(decode("{\"type\":\"GenericArray\",\"value\":[{\"type\":\"GenericValue\",\"value\":\"x\"},{\"type\":\"GenericNull\"}]}")));
+    }
+}
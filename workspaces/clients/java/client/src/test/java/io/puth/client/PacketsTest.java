@@ -0,0 +1,158 @@
+package io.puth.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.puth.client.remote.Browser;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PacketsTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Keeps the JSON envelopes as the server reads them.
+     */
+    private static class CapturingTransport implements Transport {
+        final List<Map<String, Object>> packets = new CopyOnWriteArrayList<>();
+        final List<String> paths = new CopyOnWriteArrayList<>();
+        final Transport transport;
+
+        CapturingTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private void capture(Request request) {
+            if (!JSON.equals(request.contentType()) || !"PATCH".equals(request.method())) return;
+            try {
+                packets.add(objectMapper.readValue(request.bytes(), new TypeReference<>() {
+                }));
+                paths.add(request.path());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Response send(Request request) throws Exception {
+            capture(request);
+            return transport.send(request);
+        }
+
+        @Override
+        public CompletableFuture<Response> sendAsync(Request request) {
+            capture(request);
+            return transport.sendAsync(request);
+        }
+    }
+
+    private FakePuthServer server;
+    private CapturingTransport transport;
+    private Context context;
+    private Browser browser;
+    private Map<String, Object> contextFragment;
+
+    @BeforeEach
+    void setUp() {
+        server = new FakePuthServer().start();
+        transport = new CapturingTransport(new HttpTransport(server.getBaseUrl()));
+        context = new Context(server.getBaseUrl(), Map.of(), transport);
+        browser = context.createBrowserShim();
+        contextFragment = Map.of("id", context.getId(), "type", context.getType(), "represents", context.getRepresents());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private Map<String, Object> last() {
+        return transport.packets.get(transport.packets.size() - 1);
+    }
+
+    private Map<String, Object> reference(RemoteObject object) {
+        return Map.of("id", object.getId(), "type", object.getType(), "represents", object.getRepresents());
+    }
+
+    @Test
+    void test_call() {
+        assertEquals(Map.of(
+                "context", contextFragment,
+                "type", context.getType(),
+                "id", context.getId(),
+                "function", "createBrowserShim",
+                "parameters", List.of(Map.of(), Map.of())
+        ), transport.packets.get(0));
+
+        // remote objects are sent as references, nulls are dropped
+        Browser other = context.createBrowserShim();
+        browser.callFunc("drag", new Object[]{"#from", null, other, 3});
+
+        assertEquals("/context/call", transport.paths.get(transport.paths.size() - 1));
+        assertEquals(Map.of(
+                "context", contextFragment,
+                "type", browser.getType(),
+                "id", browser.getId(),
+                "function", "drag",
+                "parameters", List.of("#from", reference(other), 3)
+        ), last());
+
+        browser.callFuncAsync("drag", new Object[]{other}).join();
+        assertEquals(List.of(reference(other)), last().get("parameters"));
+    }
+
+    @Test
+    void test_batch() {
+        browser.batch(b -> b.click("#a").type("#b", "text"));
+
+        assertEquals("/context/call/batch", transport.paths.get(transport.paths.size() - 1));
+        assertEquals(Map.of(
+                "context", contextFragment,
+                "calls", List.of(
+                        Map.of("type", browser.getType(), "id", browser.getId(), "function", "click", "parameters", List.of("#a", Map.of())),
+                        Map.of("type", browser.getType(), "id", browser.getId(), "function", "type", "parameters", List.of("#b", "text"))
+                )
+        ), last());
+    }
+
+    @Test
+    void test_get() {
+        server.onProperty("title", "Example");
+
+        assertEquals("Example", browser.getPropertyValue("title"));
+
+        assertEquals("/context/get", transport.paths.get(transport.paths.size() - 1));
+        assertEquals(Map.of(
+                "context", contextFragment,
+                "type", browser.getType(),
+                "id", browser.getId(),
+                "property", "title"
+        ), last());
+    }
+
+    @Test
+    void test_portal_response() {
+        server.on("visit", FakePuthServer.portalRequest("GET", "/login"));
+        context.setPortalRequestHandler(request -> new HashMap<>(Map.of("status", 200, "headers", Map.of(), "body", "ok")));
+
+        browser.visit("https://example.test/login");
+
+        assertEquals("/portal/response", transport.paths.get(transport.paths.size() - 1));
+        Map<String, Object> packet = last();
+        assertEquals(Set.of("context", "response"), packet.keySet());
+        assertEquals(contextFragment, packet.get("context"));
+        assertEquals(server.getPortalResponses().get(0), packet.get("response"));
+    }
+}
@@ -0,0 +1,133 @@
+package io.puth.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class PortalDispatcherTest {
+    /**
+     * Blocking handler holding every request until {@code concurrency} of them run at the same time, or for 5 seconds
+     * if they do not.
+     */
+    private static class Handler {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch allStarted;
+
+        Handler(int concurrency) {
+            allStarted = new CountDownLatch(concurrency);
+        }
+
+        CompletableFuture<Map<String, Object>> start(Map<String, Object> request, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> {
+                threads.add(Thread.currentThread());
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                allStarted.countDown();
+                try {
+                    allStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return Map.of("status", 200, "body", request.get("psuri"));
+            }, executor);
+        }
+    }
+
+    private static List<Map<String, Object>> requests(int count) {
+        return IntStream.range(0, count).<Map<String, Object>>mapToObj(i -> Map.of("psuri", "request-" + i)).toList();
+    }
+
+    /**
+     * Dispatches the requests like the server hands them out and returns their bodies.
+     */
+    private static List<Object> dispatchAll(PortalDispatcher dispatcher, List<Map<String, Object>> requests, Handler handler) {
+        return IntStream.range(0, requests.size())
+                .mapToObj(i -> dispatcher.dispatch(requests.get(i), requests.subList(i + 1, requests.size()), handler::start).join().get("body"))
+                .toList();
+    }
+
+    @Test
+    void test_platform_threads_without_virtual_threads() {
+        PortalDispatcher dispatcher = new PortalDispatcher(3, null);
+        Handler handler = new Handler(3);
+        List<Map<String, Object>> requests = requests(7);
+
+        assertTrue(dispatcher.isPooled());
+        assertEquals(requests.stream().map(request -> request.get("psuri")).toList(), dispatchAll(dispatcher, requests, handler));
+        assertEquals(3, handler.maxRunning.get());
+        // the first request runs on the calling thread, the pending ones on the pool
+        handler.threads.remove(Thread.currentThread());
+        assertFalse(handler.threads.isEmpty());
+        assertTrue(handler.threads.stream().allMatch(thread -> thread.getName().startsWith("puth-portal-")), handler.threads.toString());
+    }
+
+    @Test
+    void test_shared_executor_is_limited_to_concurrency() {
+        AtomicInteger created = new AtomicInteger();
+        ExecutorService shared = Executors.newCachedThreadPool(runnable -> new Thread(runnable, "shared-" + created.incrementAndGet()));
+        try {
+            PortalDispatcher dispatcher = new PortalDispatcher(3, shared);
+            Handler handler = new Handler(3);
+            List<Map<String, Object>> requests = requests(7);
+
+            assertTrue(dispatcher.isPooled());
+            assertEquals(requests.stream().map(request -> request.get("psuri")).toList(), dispatchAll(dispatcher, requests, handler));
+            // the shared executor does not bound the requests, the dispatcher does
+            assertEquals(3, handler.maxRunning.get());
+            handler.threads.remove(Thread.currentThread());
+            assertTrue(handler.threads.stream().allMatch(thread -> thread.getName().startsWith("shared-")), handler.threads.toString());
+        } finally {
+            shared.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_virtual_threads_when_supported() throws Exception {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads need Java 21+");
+
+        PortalDispatcher dispatcher = new PortalDispatcher(2);
+        Handler handler = new Handler(2);
+        List<Map<String, Object>> requests = requests(4);
+
+        assertEquals(requests.stream().map(request -> request.get("psuri")).toList(), dispatchAll(dispatcher, requests, handler));
+        assertEquals(2, handler.maxRunning.get());
+        handler.threads.remove(Thread.currentThread());
+        for (Thread thread : handler.threads) {
+            // Thread.isVirtual() is not part of the Java 17 API the client compiles against
+            assertEquals(true, Thread.class.getMethod("isVirtual").invoke(thread));
+        }
+    }
+
+    @Test
+    void test_platform_threads_before_java_21() {
+        assumeFalse(VirtualThreads.isSupported(), "runs on Java 17 to 20");
+
+        Handler handler = new Handler(2);
+        dispatchAll(new PortalDispatcher(2), requests(4), handler);
+
+        handler.threads.remove(Thread.currentThread());
+        assertTrue(handler.threads.stream().allMatch(thread -> thread.getName().startsWith("puth-portal-")), handler.threads.toString());
+    }
+
+    @Test
+    void test_no_pool_for_single_request() {
+        PortalDispatcher dispatcher = new PortalDispatcher(1);
+        Handler handler = new Handler(1);
+
+        assertFalse(dispatcher.isPooled());
+        assertEquals(List.of("request-0"), dispatchAll(dispatcher, requests(1), handler));
+        assertEquals(Set.of(Thread.currentThread()), handler.threads);
+    }
+}
@@ -0,0 +1,435 @@
+package io.puth.client.testing;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.puth.client.VirtualThreads;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-JVM stand-in for a Puth instance. Speaks the context protocol ({@code /context}, {@code /context/call},
+ * {@code /context/call/batch}, {@code /context/get}, {@code /portal/response}) over loopback HTTP, answering calls
+ * from a script instead of driving a browser. Useful to measure client throughput and concurrency without a browser
+ * or network:
+ * <pre>{@code
+ * try (FakePuthServer server = new FakePuthServer().withLatency(Duration.ofMillis(5), Duration.ofMillis(2)).start()) {
+ *     server.on("url", FakePuthServer.value("https://example.test/"));
+ *     Context context = new Context(server.getBaseUrl(), Map.of());
+ *     Browser browser = context.createBrowserShim();
+ *     browser.visit("https://example.test/").url();
+ * }
+ * }</pre>
+ * Unscripted calls return the called object itself ({@code GenericSelf}), unscripted properties {@code null}.
+ * {@code createBrowserShim} returns a Browser and {@code destroy} returns true. The WebSocket transport is
+ * supported with {@link #withWebSocket()}.
+ * <p>
+ * For timing measurements run the JVM with {@code -Dsun.net.httpserver.nodelay=true}. Without TCP_NODELAY every
+ * response waits for the client's delayed ACK (~40ms), which dominates any latency applied with
+ * {@link #withLatency}. The property applies to every {@code com.sun.net.httpserver} server of the JVM, so it is
+ * left to the caller.
+ */
+public class FakePuthServer implements AutoCloseable {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Function<Map<String, Object>, Object>> calls = new ConcurrentHashMap<>();
+    private final Map<String, Object> properties = new ConcurrentHashMap<>();
+    private final Map<String, Object> pendingPortalRequests = new ConcurrentHashMap<>();
+    private final Queue<Map<String, Object>> portalResponses = new ConcurrentLinkedQueue<>();
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong webSocketMessages = new AtomicLong();
+
+    private Duration latency = Duration.ZERO;
+    private Duration jitter = Duration.ZERO;
+    private Executor executor = VirtualThreads.executor();
+    private HttpServer server;
+    private boolean webSocket = false;
+    private WebSocketFront front;
+
+    /**
+     * A scripted portal request: the call is answered with a {@code ServerRequest} and, once the client posts the
+     * portal response, with {@code then}.
+     */
+    public record PortalRequest(Map<String, Object> request, Object then) {
+    }
+
+    /**
+     * Scripted portal requests queued at once, as when a page loads several assets through the portal: the server
+     * asks for them one after another, sending the ones behind the current request along as {@code pending}, and
+     * answers the call with {@code then} once all are responded.
+     */
+    public record PortalRequests(List<Map<String, Object>> requests, Object then) {
+    }
+
+    public FakePuthServer() {
+        on("createBrowserShim", object("Browser"));
+        on("destroy", value(true));
+    }
+
+    /**
+     * Delays every response by {@code latency} plus a uniformly distributed random amount up to {@code jitter}.
+     */
+    public FakePuthServer withLatency(Duration latency, Duration jitter) {
+        this.latency = Objects.requireNonNull(latency);
+        this.jitter = Objects.requireNonNull(jitter);
+        return this;
+    }
+
+    /**
+     * Executor handling requests, virtual threads (or the daemon fallback pool) by default.
+     */
+    public FakePuthServer withExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * Serves {@code /context/websocket} as well, see {@link #closeWebSockets()}. Without it, the client's WebSocket
+     * connect fails as with a server or proxy that does not support it.
+     */
+    public FakePuthServer withWebSocket() {
+        this.webSocket = true;
+        return this;
+    }
+
+    /**
+     * Answers calls of {@code function} with the given response: a Generic* map (see the static factories), a
+     * {@code byte[]} sent as binary, a {@link PortalRequest} or {@link PortalRequests}.
+     */
+    public FakePuthServer on(String function, Object response) {
+        return on(function, packet -> response);
+    }
+
+    /**
+     * Answers calls of {@code function} with the result of {@code responder}, which gets the call packet.
+     */
+    public FakePuthServer on(String function, Function<Map<String, Object>, Object> responder) {
+        calls.put(function, responder);
+        return this;
+    }
+
+    public FakePuthServer onProperty(String property, Object value) {
+        properties.put(property, value);
+        return this;
+    }
+
+    public FakePuthServer start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start FakePuthServer: " + e.getMessage(), e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        if (webSocket) {
+            try {
+                front = new WebSocketFront(server.getAddress(), this::handleMessage);
+            } catch (IOException e) {
+                close();
+                throw new IllegalStateException("Failed to start FakePuthServer: " + e.getMessage(), e);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (front != null) {
+            front.close();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = front != null ? front.getAddress() : server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    /**
+     * Closes the open WebSockets like a server going away and returns once the clients acknowledged it. Later
+     * connects still succeed.
+     */
+    public void closeWebSockets() {
+        if (front != null) {
+            front.closeSessions();
+        }
+    }
+
+    /**
+     * Number of HTTP requests received for the given path, e.g. {@code "/context/call"}. Requests sent over a
+     * WebSocket are counted by {@link #getWebSocketMessageCount()}.
+     */
+    public long getRequestCount(String path) {
+        AtomicLong count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    public long getWebSocketMessageCount() {
+        return webSocketMessages.get();
+    }
+
+    /**
+     * Highest number of requests handled at the same time, above 1 if the client sent requests concurrently.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * Portal responses the client posted, in the order they arrived. Bodies sent over the binary channel are byte
+     * arrays, others base64 strings.
+     */
+    public List<Map<String, Object>> getPortalResponses() {
+        return new ArrayList<>(portalResponses);
+    }
+
+    // Generic* responses
+
+    public static Map<String, Object> self() {
+        return Map.of("type", "GenericSelf");
+    }
+
+    public static Map<String, Object> value(Object value) {
+        Map<String, Object> generic = new HashMap<>();
+        generic.put("type", "GenericValue");
+        generic.put("value", value);
+        return generic;
+    }
+
+    public static Map<String, Object> object(String represents) {
+        return Map.of("id", UUID.randomUUID().toString(), "type", "GenericObject", "represents", represents);
+    }
+
+    public static Map<String, Object> objects(String represents, int count) {
+        List<Map<String, Object>> objects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            objects.add(object(represents));
+        }
+        return Map.of("type", "GenericObjects", "value", objects);
+    }
+
+    public static Map<String, Object> error(String message) {
+        return Map.of("type", "error", "message", message);
+    }
+
+    public static Map<String, Object> expectationFailed(String message) {
+        return Map.of("type", "ExpectationFailed", "value", Map.of("message", message));
+    }
+
+    public static PortalRequest portalRequest(String method, String path) {
+        return portalRequest(method, path, self());
+    }
+
+    public static PortalRequest portalRequest(String method, String path, Object then) {
+        return new PortalRequest(Map.of("method", method, "path", path, "headers", Map.of()), then);
+    }
+
+    public static PortalRequests portalRequests(List<String> paths, Object then) {
+        return new PortalRequests(paths.stream().map(path -> portalRequest("GET", path).request()).toList(), then);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            requestCounts.computeIfAbsent(path, p -> new AtomicLong()).incrementAndGet();
+
+            long start = System.nanoTime();
+            Map<String, Object> packet = readPacket(exchange);
+            delay();
+
+            Object response = respond(method, path, packet);
+            if (response == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().add("Server-Timing", String.format(Locale.ROOT, "puth;dur=%.2f", (System.nanoTime() - start) / 1_000_000.0));
+            write(exchange, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * WebSocket message {@code {"rid": 1, "path": "/context/call", "body": {...}}}, answered with the text
+     * {@code "<rid> <status> <json>"} or binary responses as the rid (uint32) followed by the bytes.
+     */
+    @SuppressWarnings("unchecked")
+    private void handleMessage(WebSocketFront.Session session, String message) {
+        webSocketMessages.incrementAndGet();
+        executor.execute(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Map<String, Object> frame = objectMapper.readValue(message, new TypeReference<>() {
+                });
+                int rid = ((Number) frame.get("rid")).intValue();
+                Map<String, Object> packet = (Map<String, Object>) frame.getOrDefault("body", Map.of());
+                delay();
+
+                Object response = respond("PATCH", String.valueOf(frame.get("path")), packet);
+                if (response instanceof byte[] bytes) {
+                    session.sendBinary(ByteBuffer.allocate(4 + bytes.length).putInt(rid).put(bytes).array());
+                } else if (response == null) {
+                    session.sendText(rid + " 404 {}");
+                } else {
+                    session.sendText(rid + " 200 " + objectMapper.writeValueAsString(response));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * @return the response to a request, null if there is no such endpoint
+     */
+    private Object respond(String method, String path, Map<String, Object> packet) {
+        return switch (method + " " + path) {
+            case "POST /context" -> Map.of("id", UUID.randomUUID().toString(), "type", "Context", "represents", "Context");
+            case "DELETE /context" -> Map.of();
+            case "PATCH /context/call" -> call(packet);
+            case "PATCH /context/call/batch" -> batch(packet);
+            case "PATCH /context/get" -> property(packet);
+            case "PATCH /portal/response", "PATCH /portal/response/binary" -> portalResponse(packet);
+            default -> null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readPacket(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        if (body.length == 0) {
+            return Map.of();
+        }
+        if (!exchange.getRequestURI().getPath().endsWith("/binary")) {
+            return objectMapper.readValue(body, new TypeReference<>() {
+            });
+        }
+
+        // binary portal response: envelope length, JSON envelope, body bytes
+        int length = ByteBuffer.wrap(body).getInt();
+        Map<String, Object> packet = objectMapper.readValue(body, 4, length, new TypeReference<>() {
+        });
+        ((Map<String, Object>) packet.get("response")).put("body", Arrays.copyOfRange(body, 4 + length, body.length));
+        return packet;
+    }
+
+    private void delay() {
+        long nanos = latency.toNanos();
+        if (!jitter.isZero()) {
+            nanos += ThreadLocalRandom.current().nextLong(jitter.toNanos());
+        }
+        if (nanos > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(nanos).toMillis(), (int) (nanos % 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Object call(Map<String, Object> packet) {
+        Function<Map<String, Object>, Object> responder = calls.get(String.valueOf(packet.get("function")));
+        return resolve(responder == null ? self() : responder.apply(packet));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object batch(Map<String, Object> packet) {
+        List<Map<String, Object>> batched = (List<Map<String, Object>>) packet.getOrDefault("calls", List.of());
+        for (int index = 0; index < batched.size(); index++) {
+            Object result = call(batched.get(index));
+            if (!(result instanceof Map<?, ?> generic) || !"GenericSelf".equals(generic.get("type"))) {
+                return Map.of("type", "GenericBatch", "index", index, "result", result);
+            }
+        }
+        return Map.of("type", "GenericBatch", "index", batched.size());
+    }
+
+    private Object property(Map<String, Object> packet) {
+        Object value = properties.get(String.valueOf(packet.get("property")));
+        return value instanceof Map<?, ?> ? value : value(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object portalResponse(Map<String, Object> packet) {
+        Map<String, Object> response = (Map<String, Object>) packet.getOrDefault("response", Map.of());
+        portalResponses.add(response);
+
+        Object then = pendingPortalRequests.remove(String.valueOf(response.get("psuri")));
+        if (then == null) {
+            return error("Unknown portal request: " + response.get("psuri"));
+        }
+        return resolve(then);
+    }
+
+    private Object resolve(Object response) {
+        if (response instanceof PortalRequest portalRequest) {
+            String psuri = UUID.randomUUID().toString();
+            pendingPortalRequests.put(psuri, portalRequest.then());
+
+            Map<String, Object> request = new HashMap<>(portalRequest.request());
+            request.put("psuri", psuri);
+            return Map.of("type", "ServerRequest", "value", Map.of("request", request));
+        }
+        if (response instanceof PortalRequests portalRequests && !portalRequests.requests().isEmpty()) {
+            List<Map<String, Object>> requests = new ArrayList<>();
+            for (Map<String, Object> request : portalRequests.requests()) {
+                Map<String, Object> withPsuri = new HashMap<>(request);
+                withPsuri.put("psuri", UUID.randomUUID().toString());
+                requests.add(withPsuri);
+            }
+
+            // chain from the back: the response to request i is the server request for i + 1
+            Object next = portalRequests.then();
+            for (int i = requests.size() - 1; i >= 0; i--) {
+                pendingPortalRequests.put(String.valueOf(requests.get(i).get("psuri")), next);
+                next = Map.of("type", "ServerRequest", "value", Map.of(
+                        "request", requests.get(i),
+                        "pending", requests.subList(i + 1, requests.size())
+                ));
+            }
+            return next;
+        }
+        return response;
+    }
+
+    private static void write(HttpExchange exchange, Object response) throws IOException {
+        byte[] body;
+        if (response instanceof byte[] bytes) {
+            body = bytes;
+            exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+        } else {
+            body = objectMapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+        }
+
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
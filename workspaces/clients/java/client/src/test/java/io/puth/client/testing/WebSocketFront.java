@@ -0,0 +1,263 @@
+package io.puth.client.testing;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Public port of a {@link FakePuthServer} with WebSocket support. {@code com.sun.net.httpserver} cannot upgrade a
+ * connection, so this accepts the connections, serves {@code /context/websocket} itself and pipes every other
+ * connection to the HTTP server behind it. Implements what the client's WebSocket transport uses of RFC 6455: text
+ * and binary messages, ping and close.
+ */
+final class WebSocketFront implements AutoCloseable {
+    private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private final ServerSocket serverSocket;
+    private final InetSocketAddress upstream;
+    private final BiConsumer<Session, String> onText;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+
+    WebSocketFront(InetSocketAddress upstream, BiConsumer<Session, String> onText) throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.upstream = upstream;
+        this.onText = onText;
+        daemon(this::accept, "fake-puth-front");
+    }
+
+    InetSocketAddress getAddress() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    /**
+     * Closes the open WebSockets like a server going away: sends a close frame and waits for the client's.
+     */
+    void closeSessions() {
+        for (Session session : sessions) {
+            session.close(1001, "Going away");
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+        sessions.forEach(Session::abort);
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                daemon(() -> serve(socket), "fake-puth-connection");
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            InputStream in = socket.getInputStream();
+            byte[] head = readHead(in);
+            if (head == null) {
+                socket.close();
+                return;
+            }
+
+            String[] lines = new String(head, StandardCharsets.ISO_8859_1).split("\r\n");
+            Map<String, String> headers = new HashMap<>();
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon > 0) headers.put(lines[i].substring(0, colon).trim().toLowerCase(Locale.ROOT), lines[i].substring(colon + 1).trim());
+            }
+
+            if (lines[0].startsWith("GET /context/websocket ") && "websocket".equalsIgnoreCase(headers.get("upgrade"))) {
+                upgrade(socket, headers.get("sec-websocket-key"));
+            } else {
+                pipe(socket, head);
+            }
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Request line and headers up to the blank line, read byte by byte so nothing behind them is consumed.
+     */
+    private static byte[] readHead(InputStream in) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        int matched = 0;
+        while (matched < 4) {
+            int b = in.read();
+            if (b < 0) return null;
+            head.write(b);
+            matched = b == "\r\n\r\n".charAt(matched) ? matched + 1 : (b == '\r' ? 1 : 0);
+        }
+        return head.toByteArray();
+    }
+
+    /**
+     * Pipes a plain HTTP request to the upstream server. It is asked to close the connection afterwards, so the client
+     * does not reuse it for a WebSocket upgrade this class would not see.
+     */
+    private void pipe(Socket socket, byte[] head) throws IOException {
+        try (socket; Socket server = new Socket(upstream.getAddress(), upstream.getPort())) {
+            server.setTcpNoDelay(true);
+            OutputStream out = server.getOutputStream();
+            out.write(head, 0, head.length - 2);
+            out.write("Connection: close\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            Thread requests = daemon(() -> {
+                try {
+                    socket.getInputStream().transferTo(server.getOutputStream());
+                    server.shutdownOutput();
+                } catch (IOException ignored) {
+                }
+            }, "fake-puth-pipe");
+            try {
+                server.getInputStream().transferTo(socket.getOutputStream());
+            } catch (IOException ignored) {
+            }
+            requests.interrupt();
+        }
+    }
+
+    private void upgrade(Socket socket, String key) throws IOException {
+        String accept;
+        try {
+            accept = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-1").digest((key + ACCEPT_GUID).getBytes(StandardCharsets.ISO_8859_1)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        OutputStream out = socket.getOutputStream();
+        out.write(("HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\nSec-WebSocket-Accept: " + accept + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+
+        Session session = new Session(socket);
+        sessions.add(session);
+        try {
+            session.read();
+        } finally {
+            sessions.remove(session);
+            session.abort();
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    final class Session {
+        private final Socket socket;
+        private final CompletableFuture<Void> closedByClient = new CompletableFuture<>();
+        private volatile boolean closeSent = false;
+
+        private Session(Socket socket) {
+            this.socket = socket;
+        }
+
+        private void read() throws IOException {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            ByteArrayOutputStream message = new ByteArrayOutputStream();
+            int messageOpcode = 0;
+            while (true) {
+                int first = in.read();
+                if (first < 0) return;
+                int second = in.readUnsignedByte();
+                boolean fin = (first & 0x80) != 0;
+                int opcode = first & 0x0F;
+                long length = second & 0x7F;
+                if (length == 126) length = in.readUnsignedShort();
+                else if (length == 127) length = in.readLong();
+                byte[] mask = (second & 0x80) != 0 ? in.readNBytes(4) : null;
+                byte[] payload = in.readNBytes((int) length);
+                if (mask != null) {
+                    for (int i = 0; i < payload.length; i++) payload[i] ^= mask[i % 4];
+                }
+
+                switch (opcode) {
+                    case 0x0, 0x1, 0x2 -> {
+                        if (opcode != 0x0) {
+                            messageOpcode = opcode;
+                            message.reset();
+                        }
+                        message.writeBytes(payload);
+                        if (fin && messageOpcode == 0x1) {
+                            onText.accept(this, message.toString(StandardCharsets.UTF_8));
+                        }
+                    }
+                    case 0x8 -> {
+                        closedByClient.complete(null);
+                        if (!closeSent) send(0x8, payload);
+                        return;
+                    }
+                    case 0x9 -> send(0xA, payload);
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        void sendText(String text) {
+            send(0x1, text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void sendBinary(byte[] bytes) {
+            send(0x2, bytes);
+        }
+
+        private synchronized void send(int opcode, byte[] payload) {
+            try {
+                OutputStream out = socket.getOutputStream();
+                ByteBuffer header = ByteBuffer.allocate(10);
+                header.put((byte) (0x80 | opcode));
+                if (payload.length < 126) {
+                    header.put((byte) payload.length);
+                } else if (payload.length < 65536) {
+                    header.put((byte) 126).putShort((short) payload.length);
+                } else {
+                    header.put((byte) 127).putLong(payload.length);
+                }
+                out.write(header.array(), 0, header.position());
+                out.write(payload);
+                out.flush();
+            } catch (IOException ignored) {
+                // the client went away, its transport fails the outstanding requests
+            }
+        }
+
+        private void close(int status, String reason) {
+            byte[] text = reason.getBytes(StandardCharsets.UTF_8);
+            closeSent = true;
+            send(0x8, ByteBuffer.allocate(2 + text.length).putShort((short) status).put(text).array());
+            // the client answers once its listener saw the close, from then on it does not use the socket
+            closedByClient.completeOnTimeout(null, 5, TimeUnit.SECONDS).join();
+            abort();
+        }
+
+        private void abort() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.puth.client.junit;
+
+import io.puth.client.HttpClients;
+import io.puth.client.PortalResponse;
+import io.puth.client.RemoteObject;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+final class PortalProxies {
+    /**
+     * Settings of the clients forwarding portal requests. HTTP/2 is negotiated with the application (ALPN for https,
+     * an h2c upgrade for plain http) and falls back to HTTP/1.1.
+     */
+    static final HttpClients.Settings PROXY_SETTINGS = HttpClients.Settings.DEFAULT
+            .withVersion(HttpClient.Version.HTTP_2)
+            .withConnectTimeout(Duration.ofSeconds(5));
+
+    /**
+     * Headers java.net.http sets itself and refuses to take from the request.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private PortalProxies() {
+    }
+
+    /**
+     * Forwards portal requests to the application at the supplied base URI without blocking. The HttpClient is shared
+     * per base URI for the whole test run (see {@link HttpClients}), so connections to the application survive between
+     * tests. Headers and bodies are passed through without copying them into intermediate maps.
+     */
+    static RemoteObject.AsyncPortalRequestHandler httpClientProxy(Supplier<URI> baseUriSupplier) {
+        return request -> {
+            try {
+                URI base = baseUriSupplier.get();
+                HttpClient http = HttpClients.get(base.toString(), PROXY_SETTINGS);
+                String path = request.path();
+                String url = base.toString().replaceAll("/$", "") + (path.startsWith("/") ? path : "/" + path);
+
+                ByteBuffer body = request.body();
+                HttpRequest.Builder rb = HttpRequest.newBuilder(URI.create(url))
+                        .timeout(Duration.ofSeconds(30))
+                        .method(request.method().toUpperCase(Locale.ROOT), body.hasRemaining()
+                                ? HttpRequest.BodyPublishers.ofByteArray(bytes(body))
+                                : HttpRequest.BodyPublishers.noBody());
+
+                request.headers().forEach((name, value) -> {
+                    if (RESTRICTED_HEADERS.contains(name.trim().toLowerCase(Locale.ROOT))) return;
+                    rb.header(name.trim(), value);
+                });
+
+                return http.sendAsync(rb.build(), HttpResponse.BodyHandlers.ofByteArray())
+                        .thenApply(res -> PortalResponse.of(res.statusCode(), res.headers().map(), res.body()))
+                        .exceptionally(t -> errorResponse("Proxy error: " + (t.getCause() != null ? t.getCause() : t).getMessage()));
+            } catch (Exception e) {
+                return CompletableFuture.completedFuture(errorResponse("Proxy error: " + e.getMessage()));
+            }
+        };
+    }
+
+    private static PortalResponse errorResponse(String message) {
+        return PortalResponse.of(500, Map.of("Content-Type", List.of("text/plain")), message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The buffer's bytes, without copying if it spans its whole array.
+     */
+    private static byte[] bytes(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,342 @@
+package io.puth.client.junit;
+
+import io.puth.client.remote.Browser;
+import io.puth.client.ChromeTraceRecorder;
+import io.puth.client.Context;
+import io.puth.client.ContextPool;
+import io.puth.client.LatencyRecorder;
+import io.puth.client.PortalCache;
+import io.puth.client.RemoteObject;
+import io.puth.client.VirtualThreads;
+import org.junit.jupiter.api.extension.*;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+public class PuthPortalExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+    private static final ExtensionContext.Namespace NS = ExtensionContext.Namespace.create(PuthPortalExtension.class);
+
+    protected static final Logger logger = Logger.getLogger(PuthPortalExtension.class.getName());
+
+    private final Supplier<String> puthBaseUrl;
+    private final Supplier<Map<String, Object>> contextOptions;
+
+    private final Supplier<RemoteObject.AsyncPortalRequestHandler> handlerSupplier;
+
+    private boolean virtualThreads = false;
+    private int poolSize = 0;
+    private boolean latencyReport = false;
+    private Path traceDirectory;
+    private int portalConcurrency = 1;
+    private long portalCacheBytes = 0;
+    private Object portalCacheScope;
+    private boolean eagerStart = false;
+
+    private record Started(Context context, Browser browser) {
+    }
+
+    private final AtomicReference<CompletableFuture<Started>> prepared = new AtomicReference<>();
+
+    private PuthPortalExtension(Supplier<String> puthBaseUrl,
+                                Supplier<Map<String, Object>> contextOptions,
+                                Supplier<RemoteObject.AsyncPortalRequestHandler> handlerSupplier) {
+        this.puthBaseUrl = Objects.requireNonNull(puthBaseUrl);
+        this.contextOptions = Objects.requireNonNull(contextOptions);
+        this.handlerSupplier = Objects.requireNonNull(handlerSupplier);
+    }
+
+    // Factory: RANDOM_PORT with base URI supplier
+    public static PuthPortalExtension forRandomPort(Supplier<String> puthBaseUrl,
+                                                    Supplier<Map<String, Object>> options,
+                                                    Supplier<URI> springBaseUri) {
+        return new PuthPortalExtension(puthBaseUrl, options,
+                () -> PortalProxies.httpClientProxy(() -> springBaseUri.get()));
+    }
+
+    /**
+     * Factory: portal requests are dispatched in-process into {@code handler}, without a socket (MockMvc and WebFlux
+     * support is in the client-spring module, see {@code io.puth.client.spring.MockMvcPortalProxy} and
+     * {@code io.puth.client.spring.WebFluxPortalProxy}). Non-blocking handlers return once the request is dispatched
+     * and no thread is held while the response is outstanding. Handlers that block should be wrapped with
+     * {@link RemoteObject.AsyncPortalRequestHandler#blocking}.
+     */
+    public static PuthPortalExtension forPortalHandler(Supplier<String> puthBaseUrl,
+                                                       Supplier<Map<String, Object>> options,
+                                                       Supplier<RemoteObject.AsyncPortalRequestHandler> handler) {
+        return new PuthPortalExtension(puthBaseUrl, options, handler);
+    }
+
+    /**
+     * Opt-in: creates each test's context on a virtual thread while the remaining test setup runs, and lets the
+     * context's HttpClient (async calls and their portal requests) run on virtual threads. Falls back to a shared
+     * daemon thread pool before Java 21.
+     */
+    public PuthPortalExtension withVirtualThreads() {
+        this.virtualThreads = true;
+        return this;
+    }
+
+    /**
+     * Opt-in: reuses up to {@code size} warm contexts (each with a launched browser) across tests instead of creating
+     * and destroying one per test. Browsers are reset between tests, see {@link ContextPool}. The pool is shared by
+     * all test classes using the same Puth instance and context options, and is closed when the test run ends.
+     */
+    public PuthPortalExtension withContextPool(int size) {
+        this.poolSize = size;
+        return this;
+    }
+
+    /**
+     * Opt-in: records the latency of every call with a {@link LatencyRecorder} shared by all test classes and logs
+     * p50/p99 per function at INFO when the test run ends.
+     */
+    public PuthPortalExtension withLatencyReport() {
+        this.latencyReport = true;
+        return this;
+    }
+
+    /**
+     * Opt-in: handles up to {@code concurrency} portal requests of a page in parallel instead of one after another,
+     * see {@link Context#setPortalConcurrency(int)}.
+     */
+    public PuthPortalExtension withPortalConcurrency(int concurrency) {
+        this.portalConcurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Opt-in: serves cacheable portal responses (static assets) from a {@link PortalCache} of up to {@code maxBytes},
+     * shared by the tests of the test class.
+     */
+    public PuthPortalExtension withPortalCache(long maxBytes) {
+        this.portalCacheBytes = maxBytes;
+        return this;
+    }
+
+    /**
+     * Like {@link #withPortalCache(long)}, but the cache is shared by all test classes passing an equal {@code scope},
+     * e.g. one naming the application they test. Test classes of different applications must not share a scope.
+     */
+    public PuthPortalExtension withPortalCache(long maxBytes, Object scope) {
+        this.portalCacheBytes = maxBytes;
+        this.portalCacheScope = Objects.requireNonNull(scope);
+        return this;
+    }
+
+    /**
+     * Opt-in: records every call and portal request of a test with a {@link ChromeTraceRecorder} and writes it to
+     * {@code <directory>/<test class>.<test method>.json} after the test, to be opened in {@code chrome://tracing} or
+     * Perfetto.
+     */
+    public PuthPortalExtension withChromeTrace(Path directory) {
+        this.traceDirectory = Objects.requireNonNull(directory);
+        return this;
+    }
+
+    /**
+     * Opt-in: lets integrations start creating the next test's context and launching its browser before the test is
+     * set up, see {@link #prepare(Class)}. With Spring (client-spring) this runs while the application context is
+     * loaded instead of after it. The context is created before the test's name is known, so it is named after the
+     * test class. Has no effect with {@link #withContextPool(int)}.
+     */
+    public PuthPortalExtension withEagerStart() {
+        this.eagerStart = true;
+        return this;
+    }
+
+    /**
+     * Starts creating a context and its browser in the background if {@link #withEagerStart()} is enabled. The next
+     * {@link #beforeEach} takes them over and the parameter resolver joins them, instead of creating its own. Called
+     * by {@code io.puth.client.spring.PuthTestExecutionListener} before the Spring application context is loaded.
+     */
+    public void prepare(Class<?> testClass) {
+        if (!eagerStart || poolSize > 0) return;
+
+        var options = new HashMap<>(contextOptions.get());
+        options.put("test", Map.of("name", testClass.getSimpleName(), "group", testClass.getName()));
+        if (virtualThreads) options.put("virtualThreads", true);
+
+        String baseUrl = puthBaseUrl.get();
+        CompletableFuture<Started> started = CompletableFuture.supplyAsync(() -> {
+            Context context = new Context(baseUrl, options);
+            return new Started(context, context.createBrowserShim());
+        }, VirtualThreads.executor());
+        discard(prepared.getAndSet(started));
+    }
+
+    /**
+     * Destroys a context started by {@link #prepare(Class)} that no test took over, e.g. because the Spring
+     * application context failed to load.
+     */
+    public void discardPrepared() {
+        discard(prepared.getAndSet(null));
+    }
+
+    private static void discard(CompletableFuture<Started> started) {
+        if (started == null) return;
+        started.thenAccept(s -> s.context().destroy(Map.of("context", Map.of())));
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext ctx) {
+        LatencyRecorder recorder = latencyReport ? getRecorder(ctx) : null;
+        ChromeTraceRecorder trace = traceDirectory != null ? new ChromeTraceRecorder(ctx.getDisplayName()) : null;
+        if (trace != null) ctx.getStore(NS).put("trace", trace);
+        RemoteObject.AsyncPortalRequestHandler handler = portalCacheBytes > 0
+                ? getPortalCache(ctx).wrap(handlerSupplier.get())
+                : handlerSupplier.get();
+
+        if (poolSize > 0) {
+            ContextPool.Lease lease = getPool(ctx).acquire(test(ctx));
+            lease.context().setAsyncPortalRequestHandler(handler);
+            lease.context().setPortalConcurrency(portalConcurrency);
+            if (recorder != null) lease.context().addCallListener(recorder);
+            if (trace != null) lease.context().addCallListener(trace);
+            ctx.getStore(NS).put("lease", lease);
+            ctx.getStore(NS).put("context", CompletableFuture.completedFuture(lease.context()));
+            return;
+        }
+
+        Function<Context, Context> configure = context -> {
+            context.setAsyncPortalRequestHandler(handler);
+            context.setPortalConcurrency(portalConcurrency);
+            if (recorder != null) context.addCallListener(recorder);
+            if (trace != null) context.addCallListener(trace);
+            return context;
+        };
+
+        CompletableFuture<Started> started = prepared.getAndSet(null);
+        if (started != null) {
+            ctx.getStore(NS).put("context", started.thenApply(s -> configure.apply(s.context())));
+            ctx.getStore(NS).put("browser", started.thenApply(Started::browser));
+            return;
+        }
+
+        var options = new HashMap<>(contextOptions.get());
+        options.put("test", test(ctx));
+
+        Supplier<Context> createContext = () -> configure.apply(new Context(puthBaseUrl.get(), options));
+
+        if (virtualThreads) {
+            options.put("virtualThreads", true);
+            ctx.getStore(NS).put("context", CompletableFuture.supplyAsync(createContext, VirtualThreads.executor()));
+        } else {
+            ctx.getStore(NS).put("context", CompletableFuture.completedFuture(createContext.get()));
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext ctx) {
+        Context context = getContext(ctx);
+        boolean failed = ctx.getExecutionException().isPresent();
+        ContextPool.Lease lease = ctx.getStore(NS).remove("lease", ContextPool.Lease.class);
+        if (failed && lease == null) {
+            context.testFailed();
+        }
+
+        ChromeTraceRecorder trace = ctx.getStore(NS).remove("trace", ChromeTraceRecorder.class);
+        if (trace != null) {
+            // pooled contexts outlive the test, later tests must not record into this trace
+            context.removeCallListener(trace);
+            trace.write(traceDirectory.resolve(traceFileName(ctx)));
+        }
+
+        if (lease != null) {
+            // reports the test's status, pooled contexts of failed tests are destroyed
+            getPool(ctx).release(lease, failed);
+        } else {
+            context.destroy(Map.of("context", Map.of()));
+        }
+
+        ctx.getStore(NS).remove("context");
+        ctx.getStore(NS).remove("browser");
+    }
+
+    private static Map<String, Object> test(ExtensionContext ctx) {
+        return Map.of("name", ctx.getDisplayName(), "group", ctx.getRequiredTestClass().getName());
+    }
+
+    private static String traceFileName(ExtensionContext ctx) {
+        String name = ctx.getRequiredTestClass().getName() + "." + ctx.getRequiredTestMethod().getName();
+        if (ctx.getUniqueId().contains("-invocation:")) {
+            // parameterized and repeated tests: one file per invocation
+            name += "." + ctx.getDisplayName().replaceAll("[^A-Za-z0-9._-]+", "_");
+        }
+        return name + ".json";
+    }
+
+    private ContextPool getPool(ExtensionContext ctx) {
+        String baseUrl = puthBaseUrl.get();
+        Map<String, Object> options = contextOptions.get();
+        // root store: one pool per Puth instance and options for the whole test run
+        return ctx.getRoot().getStore(NS).getOrComputeIfAbsent(
+                List.of("pool", baseUrl, options, poolSize),
+                key -> new ClosingPool(new ContextPool(baseUrl, options, poolSize)),
+                ClosingPool.class
+        ).pool();
+    }
+
+    private record ClosingPool(ContextPool pool) implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            pool.close();
+        }
+    }
+
+    private PortalCache getPortalCache(ExtensionContext ctx) {
+        return ctx.getRoot().getStore(NS).getOrComputeIfAbsent(List.of("portal-cache", portalCacheBytes, portalCacheScope != null ? portalCacheScope : ctx.getRequiredTestClass()), key -> new PortalCache(portalCacheBytes), PortalCache.class);
+    }
+
+    private static LatencyRecorder getRecorder(ExtensionContext ctx) {
+        return ctx.getRoot().getStore(NS).getOrComputeIfAbsent("latency", key -> new ReportingRecorder(new LatencyRecorder()), ReportingRecorder.class).recorder();
+    }
+
+    private record ReportingRecorder(LatencyRecorder recorder) implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            logger.info("Puth call latency\n" + recorder.report());
+        }
+    }
+
+    private static Context getContext(ExtensionContext ctx) {
+        return join(ctx, "context");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T join(ExtensionContext ctx, String key) {
+        try {
+            return ((CompletableFuture<T>) ctx.getStore(NS).get(key, CompletableFuture.class)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext pc, ExtensionContext ec) throws ParameterResolutionException {
+        Class<?> type = pc.getParameter().getType();
+        return type == Context.class || type == Browser.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext pc, ExtensionContext ec) throws ParameterResolutionException {
+        Class<?> type = pc.getParameter().getType();
+        Context c = getContext(ec);
+        if (type == Context.class) return c;
+        if (type == Browser.class) {
+            ContextPool.Lease lease = ec.getStore(NS).get("lease", ContextPool.Lease.class);
+            if (lease != null) return lease.browser();
+            return ec.getStore(NS).get("browser") != null ? join(ec, "browser") : c.createBrowserShim();
+        }
+        throw new ParameterResolutionException("Unsupported parameter type: " + type);
+    }
+}
\ No newline at end of file
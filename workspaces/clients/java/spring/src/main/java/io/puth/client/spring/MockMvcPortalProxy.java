@@ -0,0 +1,74 @@
+package io.puth.client.spring;
+
+import io.puth.client.PortalResponse;
+import io.puth.client.RemoteObject;
+import io.puth.client.junit.PuthPortalExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Serves portal requests from MockMvc, in-process and without a socket:
+ * <pre>{@code
+ * @RegisterExtension
+ * PuthPortalExtension puth = MockMvcPortalProxy.forMockMvc(() -> "http://127.0.0.1:7345", Map::of, () -> mockMvc);
+ * }</pre>
+ */
+public final class MockMvcPortalProxy {
+    private MockMvcPortalProxy() {
+    }
+
+    // Factory: MockMvc supplier
+    public static PuthPortalExtension forMockMvc(Supplier<String> puthBaseUrl,
+                                                 Supplier<Map<String, Object>> options,
+                                                 Supplier<MockMvc> mockMvcSupplier) {
+        return PuthPortalExtension.forPortalHandler(puthBaseUrl, options, () -> of(mockMvcSupplier));
+    }
+
+    /**
+     * Dispatches portal requests into MockMvc. MockMvc blocks, so this is a blocking handler the client runs on the
+     * portal dispatcher's pool when requests are handled ahead of time.
+     */
+    public static RemoteObject.AsyncPortalRequestHandler of(Supplier<MockMvc> mockMvcSupplier) {
+        return RemoteObject.AsyncPortalRequestHandler.blocking(request -> {
+            try {
+                MockMvc mockMvc = Objects.requireNonNull(mockMvcSupplier.get(), "mockMvcSupplier returned null");
+
+                MockHttpServletRequestBuilder rb = MockMvcRequestBuilders.request(HttpMethod.valueOf(request.method().toUpperCase(Locale.ROOT)), request.path());
+                request.headers().forEach((name, value) -> {
+                    if (name.trim().equalsIgnoreCase("content-length")) return;
+                    rb.header(name.trim(), value);
+                });
+                ByteBuffer body = request.body();
+                if (body.hasRemaining()) rb.content(bytes(body));
+
+                MockHttpServletResponse res = mockMvc.perform(rb).andReturn().getResponse();
+
+                Map<String, List<String>> headers = new LinkedHashMap<>();
+                for (String name : res.getHeaderNames()) {
+                    headers.put(name, res.getHeaders(name));
+                }
+                return PortalResponse.of(res.getStatus(), headers, res.getContentAsByteArray());
+            } catch (Exception e) {
+                return PortalResponse.of(500, Map.of("Content-Type", List.of("text/plain")),
+                        ("Proxy error (MockMvc): " + e.getMessage()).getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
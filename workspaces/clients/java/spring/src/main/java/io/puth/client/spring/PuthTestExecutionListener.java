@@ -0,0 +1,66 @@
+package io.puth.client.spring;
+
+import io.puth.client.junit.PuthPortalExtension;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the Puth context and browser of {@link PuthPortalExtension}s with {@link PuthPortalExtension#withEagerStart()}
+ * before the test instance is prepared, so they are created while Spring loads the application context instead of
+ * after it. Registered through {@code META-INF/spring.factories}, it runs first among the listeners of every Spring
+ * test and does nothing for tests without such an extension.
+ */
+public class PuthTestExecutionListener extends AbstractTestExecutionListener {
+    private static final String EXTENSIONS = PuthTestExecutionListener.class.getName() + ".extensions";
+
+    @Override
+    public int getOrder() {
+        // before the listeners loading the application context (ServletTestExecutionListener, dependency injection)
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void prepareTestInstance(TestContext testContext) throws Exception {
+        List<PuthPortalExtension> extensions = extensions(testContext.getTestInstance());
+        if (extensions.isEmpty()) return;
+
+        for (PuthPortalExtension extension : extensions) {
+            extension.prepare(testContext.getTestClass());
+        }
+        // remembered for afterTestClass, in case the application context fails to load and no test takes them over
+        testContext.<List<PuthPortalExtension>>computeAttribute(EXTENSIONS, key -> new ArrayList<>()).addAll(extensions);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterTestClass(TestContext testContext) {
+        Object extensions = testContext.removeAttribute(EXTENSIONS);
+        if (extensions != null) {
+            ((List<PuthPortalExtension>) extensions).forEach(PuthPortalExtension::discardPrepared);
+        }
+    }
+
+    /**
+     * Fields holding an extension, the ones JUnit registers with {@code @RegisterExtension}. Static ones are prepared
+     * for every test instance as well, each test takes over the context prepared for it.
+     */
+    private static List<PuthPortalExtension> extensions(Object testInstance) throws IllegalAccessException {
+        List<PuthPortalExtension> extensions = new ArrayList<>();
+        for (Class<?> type = testInstance.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!PuthPortalExtension.class.isAssignableFrom(field.getType())) continue;
+                if (!field.trySetAccessible()) continue;
+                if (field.get(Modifier.isStatic(field.getModifiers()) ? null : testInstance) instanceof PuthPortalExtension extension) {
+                    extensions.add(extension);
+                }
+            }
+        }
+        return extensions;
+    }
+}
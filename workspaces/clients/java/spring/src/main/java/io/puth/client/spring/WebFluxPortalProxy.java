@@ -0,0 +1,184 @@
+package io.puth.client.spring;
+
+import io.puth.client.PortalResponse;
+import io.puth.client.RemoteObject;
+import io.puth.client.junit.PuthPortalExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Serves portal requests from a WebFlux application, in-process and without a socket:
+ * <pre>{@code
+ * @RegisterExtension
+ * PuthPortalExtension puth = WebFluxPortalProxy.forApplicationContext(() -> "http://127.0.0.1:7345", Map::of, () -> applicationContext);
+ * }</pre>
+ * Requests are handed to the application's {@link HttpHandler} and answered once its {@code Mono} completes, no thread
+ * waits for the response. Pending portal requests are therefore handled concurrently without a dispatcher pool, see
+ * {@link io.puth.client.Context#setAsyncPortalRequestHandler}, and the application's handlers must be thread safe.
+ */
+public final class WebFluxPortalProxy {
+    private WebFluxPortalProxy() {
+    }
+
+    // Factory: RouterFunction supplier
+    public static PuthPortalExtension forRouterFunction(Supplier<String> puthBaseUrl,
+                                                        Supplier<Map<String, Object>> options,
+                                                        Supplier<? extends RouterFunction<?>> routerFunctionSupplier) {
+        return PuthPortalExtension.forPortalHandler(puthBaseUrl, options,
+                () -> of(() -> RouterFunctions.toHttpHandler(routerFunctionSupplier.get())));
+    }
+
+    // Factory: WebHandler supplier, e.g. a DispatcherHandler
+    public static PuthPortalExtension forWebHandler(Supplier<String> puthBaseUrl,
+                                                    Supplier<Map<String, Object>> options,
+                                                    Supplier<? extends WebHandler> webHandlerSupplier) {
+        return PuthPortalExtension.forPortalHandler(puthBaseUrl, options,
+                () -> of(() -> WebHttpHandlerBuilder.webHandler(webHandlerSupplier.get()).build()));
+    }
+
+    // Factory: ApplicationContext supplier, with the filters and exception handlers it declares
+    public static PuthPortalExtension forApplicationContext(Supplier<String> puthBaseUrl,
+                                                            Supplier<Map<String, Object>> options,
+                                                            Supplier<? extends ApplicationContext> applicationContextSupplier) {
+        return PuthPortalExtension.forPortalHandler(puthBaseUrl, options,
+                () -> of(() -> WebHttpHandlerBuilder.applicationContext(applicationContextSupplier.get()).build()));
+    }
+
+    /**
+     * Factory: WebTestClient supplier. WebTestClient waits for every exchange, so unlike the other factories this is
+     * a blocking handler, run on the portal dispatcher's pool when requests are handled ahead of time. Prefer
+     * {@link #forApplicationContext} for the application behind a {@code @AutoConfigureWebTestClient}.
+     */
+    public static PuthPortalExtension forWebTestClient(Supplier<String> puthBaseUrl,
+                                                       Supplier<Map<String, Object>> options,
+                                                       Supplier<WebTestClient> webTestClientSupplier) {
+        return PuthPortalExtension.forPortalHandler(puthBaseUrl, options, () -> ofWebTestClient(webTestClientSupplier));
+    }
+
+    /**
+     * Dispatches portal requests into the {@link HttpHandler} from {@code httpHandlerSupplier}, which is asked once,
+     * on the first request.
+     */
+    public static RemoteObject.AsyncPortalRequestHandler of(Supplier<HttpHandler> httpHandlerSupplier) {
+        Supplier<HttpHandler> httpHandler = memoize(httpHandlerSupplier);
+        return request -> {
+            try {
+                HttpHandler handler = Objects.requireNonNull(httpHandler.get(), "httpHandlerSupplier returned null");
+
+                MockServerHttpRequest.BodyBuilder rb = MockServerHttpRequest.method(HttpMethod.valueOf(request.method().toUpperCase(Locale.ROOT)), URI.create(request.path()));
+                request.headers().forEach((name, value) -> {
+                    if (name.trim().equalsIgnoreCase("content-length")) return;
+                    rb.header(name.trim(), value);
+                });
+                ByteBuffer body = request.body();
+                MockServerHttpRequest req = body.hasRemaining()
+                        ? rb.body(Mono.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                        : rb.build();
+                MockServerHttpResponse res = new MockServerHttpResponse();
+
+                return handler.handle(req, res)
+                        .then(Mono.defer(() -> DataBufferUtils.join(res.getBody())))
+                        .map(WebFluxPortalProxy::bytes)
+                        .defaultIfEmpty(new byte[0])
+                        .map(bytes -> PortalResponse.of(status(res.getStatusCode()), headers(res.getHeaders()), bytes))
+                        .onErrorResume(e -> Mono.just(error(e)))
+                        .toFuture();
+            } catch (Exception e) {
+                return CompletableFuture.completedFuture(error(e));
+            }
+        };
+    }
+
+    /**
+     * Dispatches portal requests through a WebTestClient, see {@link #forWebTestClient}.
+     */
+    public static RemoteObject.AsyncPortalRequestHandler ofWebTestClient(Supplier<WebTestClient> webTestClientSupplier) {
+        return RemoteObject.AsyncPortalRequestHandler.blocking(request -> {
+            try {
+                WebTestClient client = Objects.requireNonNull(webTestClientSupplier.get(), "webTestClientSupplier returned null");
+
+                WebTestClient.RequestBodySpec spec = client.method(HttpMethod.valueOf(request.method().toUpperCase(Locale.ROOT))).uri(URI.create(request.path()));
+                request.headers().forEach((name, value) -> {
+                    if (name.trim().equalsIgnoreCase("content-length")) return;
+                    spec.headers(headers -> headers.add(name.trim(), value));
+                });
+                ByteBuffer body = request.body();
+                WebTestClient.RequestHeadersSpec<?> rs = body.hasRemaining() ? spec.bodyValue(bytes(body)) : spec;
+
+                EntityExchangeResult<byte[]> result = rs.exchange().expectBody().returnResult();
+                return PortalResponse.of(result.getStatus().value(), headers(result.getResponseHeaders()),
+                        Objects.requireNonNullElse(result.getResponseBody(), new byte[0]));
+            } catch (Exception e) {
+                return error(e);
+            }
+        });
+    }
+
+    private static <T> Supplier<T> memoize(Supplier<T> supplier) {
+        return new Supplier<>() {
+            private volatile T value;
+
+            @Override
+            public T get() {
+                T result = value;
+                if (result == null) {
+                    synchronized (this) {
+                        if (value == null) value = supplier.get();
+                        result = value;
+                    }
+                }
+                return result;
+            }
+        };
+    }
+
+    private static int status(HttpStatusCode status) {
+        return status == null ? 200 : status.value();
+    }
+
+    private static Map<String, List<String>> headers(Map<String, List<String>> headers) {
+        return new LinkedHashMap<>(headers);
+    }
+
+    private static PortalResponse error(Throwable e) {
+        return PortalResponse.of(500, Map.of("Content-Type", List.of("text/plain")),
+                ("Proxy error (WebFlux): " + e.getMessage()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] bytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
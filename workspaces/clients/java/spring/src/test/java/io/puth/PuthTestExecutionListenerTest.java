@@ -0,0 +1,97 @@
+package io.puth;
+
+import io.puth.client.Context;
+import io.puth.client.PortalResponse;
+import io.puth.client.junit.PuthPortalExtension;
+import io.puth.client.remote.Browser;
+import io.puth.client.spring.PuthTestExecutionListener;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.test.context.TestContextManager;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// the tests count the contexts and browsers created on one server so far
+@ExtendWith(SpringExtension.class)
+@TestExecutionListeners(PuthTestExecutionListener.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PuthTestExecutionListenerTest {
+    private static final AtomicInteger browsers = new AtomicInteger();
+    private static final AtomicInteger destroyed = new AtomicInteger();
+    private static final FakePuthServer server = new FakePuthServer()
+            .on("createBrowserShim", packet -> {
+                browsers.incrementAndGet();
+                return FakePuthServer.object("Browser");
+            })
+            .on("destroy", packet -> {
+                destroyed.incrementAndGet();
+                return FakePuthServer.value(true);
+            })
+            .start();
+
+    private static PuthPortalExtension extension() {
+        return PuthPortalExtension.forPortalHandler(server::getBaseUrl, Map::of,
+                () -> request -> CompletableFuture.completedFuture(PortalResponse.of(200, Map.of(), new byte[0])))
+                .withEagerStart();
+    }
+
+    @RegisterExtension
+    PuthPortalExtension puth = extension();
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @Order(1)
+    void test_prepared_context_is_taken_over(Context context) {
+        assertNotNull(context);
+        // started by the listener, browser included, and not created again by beforeEach
+        assertEquals(1, server.getRequestCount("/context"));
+        assertEquals(1, browsers.get());
+    }
+
+    @Test
+    @Order(2)
+    void test_prepared_browser_is_joined(Browser browser) {
+        assertNotNull(browser);
+        assertEquals(2, server.getRequestCount("/context"));
+        assertEquals(2, browsers.get());
+    }
+
+    @TestExecutionListeners(PuthTestExecutionListener.class)
+    static class StaticExtension {
+        @RegisterExtension
+        static PuthPortalExtension puth = extension();
+    }
+
+    @Test
+    @Order(3)
+    void test_static_extension_is_prepared_and_discarded() throws Exception {
+        TestContextManager manager = new TestContextManager(StaticExtension.class);
+        int before = destroyed.get();
+
+        // the application context failed to load, no test took the prepared context over
+        manager.prepareTestInstance(new StaticExtension());
+        manager.afterTestClass();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (destroyed.get() == before && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(before + 1, destroyed.get());
+        // one more for this test's own instance
+        assertEquals(4, server.getRequestCount("/context"));
+        assertEquals(4, browsers.get());
+    }
+}
@@ -0,0 +1,126 @@
+package io.puth;
+
+import io.puth.client.Context;
+import io.puth.client.remote.Browser;
+import io.puth.client.spring.WebFluxPortalProxy;
+import io.puth.client.testing.FakePuthServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WebFluxPortalProxyTest {
+    // /gated requests are answered once 8 of them are outstanding, or after 5 seconds if they are handled one by one
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger maxOutstanding = new AtomicInteger();
+    private final CompletableFuture<Void> allStarted = new CompletableFuture<Void>().completeOnTimeout(null, 5, TimeUnit.SECONDS);
+
+    private final RouterFunction<ServerResponse> router = RouterFunctions.route()
+            .GET("/hello", request -> ServerResponse.ok().header("X-App", "webflux").bodyValue("hello " + request.queryParam("name").orElse("")))
+            .POST("/echo", request -> request.bodyToMono(String.class)
+                    .flatMap(body -> ServerResponse.ok().contentType(MediaType.TEXT_PLAIN).bodyValue(request.headers().firstHeader("X-Token") + ":" + body)))
+            .GET("/gated/{id}", request -> {
+                int current = outstanding.incrementAndGet();
+                maxOutstanding.accumulateAndGet(current, Math::max);
+                if (current == 8) allStarted.complete(null);
+                return Mono.fromFuture(allStarted).then(Mono.defer(() -> {
+                    outstanding.decrementAndGet();
+                    return ServerResponse.ok().bodyValue(request.pathVariable("id"));
+                }));
+            })
+            .build();
+
+    private static FakePuthServer.PortalRequest post(String path, Map<String, Object> headers, String body) {
+        return new FakePuthServer.PortalRequest(Map.of("method", "POST", "path", path, "headers", headers,
+                "data", Base64.getEncoder().encodeToString(body.getBytes(StandardCharsets.UTF_8))), FakePuthServer.self());
+    }
+
+    private static String body(Map<String, Object> response) {
+        return new String((byte[]) response.get("body"), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void test_router_function() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("visit", FakePuthServer.portalRequest("GET", "/hello?name=puth"));
+            server.on("click", post("/echo", Map.of("X-Token", "secret", "Content-Type", "text/plain"), "clicked"));
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            context.setAsyncPortalRequestHandler(WebFluxPortalProxy.of(() -> RouterFunctions.toHttpHandler(router)));
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.visit("https://example.test/hello"));
+            assertSame(browser, browser.click("#submit"));
+
+            List<Map<String, Object>> responses = server.getPortalResponses();
+            assertEquals(200, responses.get(0).get("status"));
+            assertEquals("hello puth", body(responses.get(0)));
+            assertEquals(List.of("webflux"), ((Map<?, ?>) responses.get(0).get("headers")).get("X-App"));
+            assertEquals("secret:clicked", body(responses.get(1)));
+        }
+    }
+
+    @Test
+    void test_unknown_route() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("visit", FakePuthServer.portalRequest("GET", "/missing"));
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            context.setAsyncPortalRequestHandler(WebFluxPortalProxy.of(() -> RouterFunctions.toHttpHandler(router)));
+
+            assertNotNull(context.createBrowserShim().visit("https://example.test/missing"));
+            assertEquals(404, server.getPortalResponses().get(0).get("status"));
+        }
+    }
+
+    @Test
+    void test_pending_requests_do_not_block() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            List<String> paths = IntStream.range(0, 8).mapToObj(i -> "/gated/" + i).toList();
+            server.on("visit", FakePuthServer.portalRequests(paths, FakePuthServer.self()));
+
+            // default portal concurrency, no dispatcher pool
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            context.setAsyncPortalRequestHandler(WebFluxPortalProxy.of(() -> RouterFunctions.toHttpHandler(router)));
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.visit("https://example.test/"));
+
+            assertEquals(IntStream.range(0, 8).mapToObj(String::valueOf).toList(), server.getPortalResponses().stream().map(WebFluxPortalProxyTest::body).toList());
+            assertEquals(8, maxOutstanding.get());
+        }
+    }
+
+    @Test
+    void test_web_test_client() {
+        try (FakePuthServer server = new FakePuthServer().start()) {
+            server.on("visit", FakePuthServer.portalRequest("GET", "/hello?name=client"));
+            server.on("click", post("/echo", Map.of("X-Token", "token", "Content-Type", "text/plain"), "posted"));
+
+            Context context = new Context(server.getBaseUrl(), Map.of());
+            context.setAsyncPortalRequestHandler(WebFluxPortalProxy.ofWebTestClient(() -> WebTestClient.bindToRouterFunction(router).build()));
+            Browser browser = context.createBrowserShim();
+
+            assertSame(browser, browser.visit("https://example.test/hello"));
+            assertSame(browser, browser.click("#submit"));
+
+            List<Map<String, Object>> responses = server.getPortalResponses();
+            assertEquals("hello client", body(responses.get(0)));
+            assertEquals("token:posted", body(responses.get(1)));
+        }
+    }
+}
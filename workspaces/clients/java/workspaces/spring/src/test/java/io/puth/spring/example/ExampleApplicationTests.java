@@ -2,6 +2,7 @@ package io.puth.spring.example;
 
 import io.puth.client.junit.PuthPortalExtension;
 import io.puth.client.remote.Browser;
+import io.puth.client.spring.MockMvcPortalProxy;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,7 +20,7 @@ class ExampleApplicationTests {
     MockMvc mockMvc;
 
     @RegisterExtension
-    PuthPortalExtension puth = PuthPortalExtension.forMockMvc(
+    PuthPortalExtension puth = MockMvcPortalProxy.forMockMvc(
             () -> "http://127.0.0.1:7345",
             () -> Map.of(
                     "test", Map.of("name", "BrowserMockMvcTest", "group", this.getClass().getName()),
@@ -28,7 +29,7 @@ class ExampleApplicationTests {
                     "supports", Map.of("portal", Map.of("urlPrefixes", List.of("http://localhost")))
             ),
             () -> mockMvc
-    );
+    ).withEagerStart();
 
     @Test
     void portal_test(Browser browser) {
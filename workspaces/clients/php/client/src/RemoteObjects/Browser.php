@@ -228,6 +228,16 @@ class Browser extends RemoteObject
         return $this->callFunc('blank');
     }
 
+    /**
+     * @debug-gen-original-name "reset"
+     * @debug-gen-original-is-async true
+     * @debug-gen-original-returns ["this"]
+     */
+    public function reset(): Browser
+    {
+        return $this->callFunc('reset');
+    }
+
     /**
      * @debug-gen-original-name "refresh"
      * @debug-gen-original-is-async false
@@ -622,6 +622,23 @@ class Context extends Generic {
         this.eventFunctions = this.eventFunctions.filter((listener) => listener[0] !== object);
     }
 
+    // @codegen
+    public testStarted(test: {name?: string, group?: string} = {}) { // used by clients reusing a context across tests
+        this.test.name = test?.name ?? '';
+        this.test.status = ContextStatus.PENDING;
+
+        if (this.shouldSnapshot) {
+            this.puth.snapshotHandler.pushToCache(this, {
+                type: 'test',
+                specific: 'started',
+                name: this.test.name,
+                group: test?.group,
+                context: this.serialize(),
+                timestamp: Date.now(),
+            });
+        }
+    }
+
     // @codegen
     public testFailed() { // used by clients
         this.test.status = ContextStatus.FAILED;
@@ -140,7 +140,24 @@ export class Puth {
             });
         }
 
-        const json = handler => event => event.req.json().then(handler);
+        // Server-Timing lets clients tell time spent in the server (browser work, portal waits) from transport overhead
+        const json = handler => async event => {
+            let start = performance.now();
+            let result = await event.req.json().then(handler);
+            event.res.headers.set('Server-Timing', `puth;dur=${(performance.now() - start).toFixed(2)}`);
+            return result;
+        };
+        // binary portal response: envelope length (4 bytes, big endian), JSON envelope, body bytes as is
+        const binary = handler => async event => {
+            let start = performance.now();
+            let bytes = new Uint8Array(await event.req.arrayBuffer());
+            let length = new DataView(bytes.buffer, bytes.byteOffset, bytes.byteLength).getUint32(0);
+            let packet = JSON.parse(new TextDecoder().decode(bytes.subarray(4, 4 + length)));
+            packet.response.body = bytes.subarray(4 + length);
+            let result = await handler(packet);
+            event.res.headers.set('Server-Timing', `puth;dur=${(performance.now() - start).toFixed(2)}`);
+            return result;
+        };
         const defer = handler => {
             let resolvers = Promise.withResolvers();
             Promise.resolve()
@@ -151,6 +168,7 @@ export class Puth {
 
         h3.post('/context', json(data => this.contextCreate(data)));
         h3.patch('/context/call', json(data => defer(handle => this.contextCall(data, handle))));
+        h3.patch('/context/call/batch', json(data => this.contextCallBatch(data, packet => defer(handle => this.contextCall(packet, handle)))));
         h3.patch('/context/get', json(data => this.contextGet(data)));
         h3.patch('/context/set', json(data => this.contextSet(data)));
         h3.patch('/context/delete', json(data => this.contextDelete(data)));
@@ -158,6 +176,7 @@ export class Puth {
         h3.delete('/context', json(data => this.contextDestroy(data)));
 
         h3.patch('/portal/response', json(data => defer(handle => this.portalResponse(data, handle))));
+        h3.patch('/portal/response/binary', binary(data => defer(handle => this.portalResponse(data, handle))));
         h3.all('/portal/detour/**', async (event) => {
             let cid = event.req.headers.get('puth-portal-context-id');
             let psuri = event.req.headers.get('puth-portal-psuri');
@@ -247,6 +266,53 @@ export class Puth {
             }),
         )
 
+        // Client transport: multiplexes context requests over one connection. Requests are JSON text frames
+        // {rid, path, body}. Responses are text frames "<rid> <status> <json>" or, for binary return values, binary
+        // frames prefixed with the rid as uint32.
+        const websocketRoutes = {
+            '/context/call': data => defer(handle => this.contextCall(data, handle)),
+            '/context/call/batch': data => this.contextCallBatch(data, packet => defer(handle => this.contextCall(packet, handle))),
+            '/context/get': data => this.contextGet(data),
+            '/context/set': data => this.contextSet(data),
+            '/context/delete': data => this.contextDelete(data),
+            '/portal/response': data => defer(handle => this.portalResponse(data, handle)),
+        };
+        h3.get(
+            '/context/websocket',
+            H3.defineWebSocketHandler({
+                upgrade: (req) => {
+                    // non-browser clients do not send an origin
+                    let origin = req.headers.get('origin');
+                    if (this.options?.cors?.enabled !== false && origin != null && !H3.isCorsOriginAllowed(origin, cors)) {
+                        return new Response('Request blocked - Origin not in CORS allowlist.', {status: 401});
+                    }
+                },
+                message: (peer, message) => {
+                    let {rid, path, body} = message.json<any>();
+                    let route = websocketRoutes[path];
+
+                    Promise.resolve()
+                        .then(() => {
+                            if (route == null) throw H3.HTTPError.status(404, `Route not found [${path}]`);
+                            return route(body);
+                        })
+                        .then((result: any) => {
+                            if (ArrayBuffer.isView(result)) {
+                                let frame = new Uint8Array(4 + result.byteLength);
+                                new DataView(frame.buffer).setUint32(0, rid);
+                                frame.set(new Uint8Array(result.buffer, result.byteOffset, result.byteLength), 4);
+                                return peer.send(frame);
+                            }
+                            peer.send(`${rid} 200 ${JSON.stringify(result ?? {})}`);
+                        })
+                        .catch((error) => {
+                            this.logger.error(error);
+                            peer.send(`${rid} ${error?.status ?? 500} ${JSON.stringify({type: 'error', message: error?.message})}`);
+                        });
+                },
+            }),
+        )
+
         if (this.options?.staticDir !== false) {
             // GUI
             // @ts-ignore
@@ -309,6 +375,23 @@ export class Puth {
         return this.#contexts[packet.context.id].call(packet, res);
     }
 
+    /**
+     * Runs the calls of a batch one after another and stops at the first call that does not return itself. The client
+     * continues the batch after handling that result (e.g. a portal request) with the remaining calls.
+     */
+    public async contextCallBatch(packet, call: (packet) => Promise<any>) {
+        let calls = packet.calls ?? [];
+
+        for (let index = 0; index < calls.length; index++) {
+            let result = await call({...calls[index], context: packet.context});
+            if (result?.type !== 'GenericSelf') {
+                return {type: 'GenericBatch', index, result};
+            }
+        }
+
+        return {type: 'GenericBatch', index: calls.length};
+    }
+
     public contextGet(packet) {
         return this.#contexts[packet.context.id].get(packet);
     }
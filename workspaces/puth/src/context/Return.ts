@@ -48,8 +48,9 @@ export class Return<T = undefined> {
         return Return.make('Dialog', dialog);
     }
 
-    static ServerRequest(request) {
-        return Return.make('ServerRequest', {request});
+    static ServerRequest(request, pending: any[] = []) {
+        // pending: requests queued behind this one, clients may start handling them early
+        return Return.make('ServerRequest', pending.length === 0 ? {request} : {request, pending});
     }
 
     withMeta(meta) {
@@ -296,6 +296,26 @@ export class Browser {
         return this.visit('about:blank').then(this.self);
     }
 
+    // Bring the browser back into a clean state so it can be reused: deletes all cookies of the browser context, clears
+    // local and session storage of the current origin and navigates to about:blank.
+    public async reset(): Promise<this> {
+        if (this.isFrame) {
+            throw new UnsupportedException('Calling [reset] on a frame is not supported.');
+        }
+
+        await this.browserContext.deleteCookie(...(await this.browserContext.cookies()));
+        await this.page.evaluate(() => {
+            try {
+                localStorage.clear();
+                sessionStorage.clear();
+            } catch (e) {
+                // storage is not accessible on opaque origins like about:blank
+            }
+        });
+
+        return this.blank();
+    }
+
     public refresh(options = {}): Promise<this> {
         if (this.isFrame) {
             throw new UnsupportedException('Calling [refresh] on an iframe is not supported.');
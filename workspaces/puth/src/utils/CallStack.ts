@@ -28,7 +28,8 @@ export type PortalResponse = {
     psuri: string;
     type: string;
     headers: TODO;
-    body: string;
+    // base64 string, or the raw bytes when received over /portal/response/binary
+    body: string|Uint8Array;
     status: number;
 };
 
@@ -220,6 +221,8 @@ export class CallStack {
                 //{request: 'test', promise: {resolve: null, reject: null}}
             ],
             active: [],
+            // requests already sent to the client, as the request or as pending
+            sent: new WeakSet<PortalRequest>(),
         },
     };
 
@@ -269,7 +272,9 @@ export class CallStack {
             );
         }
 
-        let body = atob(response.body);
+        let body = typeof response.body === 'string'
+            ? atob(response.body)
+            : Buffer.from(response.body).toString('latin1');
         this.logger.debug(
             {
                 status: response.status,
@@ -335,8 +340,17 @@ export class CallStack {
         return this.call(this.portal.initial.call, true);
     }
 
+    /**
+     * Responses are still expected in queue order, the requests queued behind the current one are sent along so the
+     * client can handle them concurrently and answer each as soon as it is asked for. Each request is sent along only
+     * once, the client keeps the ones it started until they are asked for.
+     */
     public createServerRequest(portalRequest: TODO) {
-        return Return.ServerRequest(portalRequest).serialize();
+        let sent = this.portal.queue.sent;
+        let pending = this.portal.queue.active.filter((request) => request !== portalRequest && !sent.has(request));
+        sent.add(portalRequest);
+        pending.forEach((request) => sent.add(request));
+        return Return.ServerRequest(portalRequest, pending).serialize();
     }
 
     async onDialogOpen(dialog: Dialog) {
@@ -170,6 +170,36 @@ describe('CallStack', () => {
         expect(Buffer.from(handle.mock.calls[0][0].data, 'base64').toString('utf8')).toBe('large request body');
     });
 
+    it('sends each pending portal request to the client only once', async () => {
+        const { context, stack } = makeStack();
+        const requests = ['1', '2', '3', '4'].map((psuri) => ({ psuri, data: btoa(`body ${psuri}`) }));
+        stack.activeCall = makeCall();
+        for (const request of requests) {
+            context.psuriCache.set(request.psuri, { stack, handler: vi.fn() });
+        }
+        stack.portal.queue.active.push(requests[0], requests[1]);
+
+        expect(stack.createServerRequest(requests[0])).toEqual(
+            Return.ServerRequest(requests[0], [requests[1]]).serialize(),
+        );
+
+        stack.portal.queue.active.push(requests[2], requests[3]);
+        const response = { resolve: vi.fn() };
+        await stack.handlePortalResponse({
+            psuri: '1',
+            type: 'PortalResponse',
+            headers: {},
+            body: btoa('ok'),
+            status: 200,
+        }, response);
+
+        // request 2 was already sent along, only the requests queued since then are pending
+        expect(response.resolve).toHaveBeenCalledWith(
+            Return.ServerRequest(requests[1], [requests[2], requests[3]]).serialize(),
+        );
+        expect(stack.createServerRequest(requests[2])).toEqual(Return.ServerRequest(requests[2]).serialize());
+    });
+
     it('rejects a portal response that does not match the active request', async () => {
         const { context, stack } = makeStack();
         const activeHandler = vi.fn();